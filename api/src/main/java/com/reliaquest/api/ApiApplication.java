@@ -1,9 +1,12 @@
 package com.reliaquest.api;
 
+import com.reliaquest.common.StartupTimingReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import(StartupTimingReporter.class)
 public class ApiApplication {
 
     public static void main(String[] args) {
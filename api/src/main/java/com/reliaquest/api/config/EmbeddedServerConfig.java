@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.service.MockEmployeeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the mock server's service inside this application for {@code employee.transport: in-process}.
+ * Only the service is embedded, the mock server's web layer (and its fault injection) is not. The mock server is on the
+ * classpath in tests, and in builds run with {@code -PinProcess}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.transport", havingValue = "in-process")
+public class EmbeddedServerConfig {
+
+    @Bean
+    public MockEmployeeService mockEmployeeService(
+            @Value("${mock.employees.max:50}") final int maxEmployees,
+            @Value("${mock.employees.shards:0}") final int shards) {
+        return new MockEmployeeService(ServerConfiguration.generateMockEmployees(maxEmployees), shards);
+    }
+}
@@ -1,38 +1,81 @@
 package com.reliaquest.api.config;
 
-import java.io.IOException;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.LoopResources;
 
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
 
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    // Prefer Smile, fall back to JSON when the mock server can't produce it
+    private static final List<MediaType> SMILE_THEN_JSON =
+            List.of(APPLICATION_SMILE, MediaType.valueOf("application/json;q=0.5"));
+
+    /**
+     * @param unixSocketPath when set, every request goes to the mock server's unix domain socket instead of TCP
+     */
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(
+            @Value("${employee.api.wire-format:smile}") final String wireFormat,
+            @Value("${employee.upstream.unix-socket-path:}") final String unixSocketPath) {
         final RestTemplate restTemplate = new RestTemplate();
+        if (!unixSocketPath.isBlank()) {
+            log.info("Connecting to the mock server over unix socket {}", unixSocketPath);
+            restTemplate.setRequestFactory(unixSocketRequestFactory(Path.of(unixSocketPath)));
+        }
 
-        // Add error handler to handle HTTP errors gracefully
+        // Error statuses come back as regular responses; HttpEmployeeTransport turns them into results,
+        // so there is no exception (and stack trace) per 404 or 429
         restTemplate.setErrorHandler(new ResponseErrorHandler() {
             @Override
-            public boolean hasError(final ClientHttpResponse response) throws IOException {
-                final HttpStatusCode statusCode = response.getStatusCode();
-                return statusCode.is4xxClientError() || statusCode.is5xxServerError();
+            public boolean hasError(final ClientHttpResponse response) {
+                return false;
             }
 
             @Override
-            public void handleError(final ClientHttpResponse response) throws IOException {
-                final HttpStatusCode statusCode = response.getStatusCode();
-                final String statusText = response.getStatusText();
-
-                // Log the error for debugging
-                System.err.println("HTTP Error: " + statusCode + " " + statusText);
-            }
+            public void handleError(final ClientHttpResponse response) {}
         });
 
+        // RestTemplate registers the Smile converter on its own when it's on the classpath,
+        // but leaves the Accept order up to the converter list, so make the preference explicit
+        if ("smile".equalsIgnoreCase(wireFormat)) {
+            restTemplate.getInterceptors().add((request, body, execution) -> {
+                request.getHeaders().setAccept(SMILE_THEN_JSON);
+                return execution.execute(request, body);
+            });
+        } else {
+            restTemplate.getMessageConverters().removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        }
+
         return restTemplate;
     }
+
+    /**
+     * Connects to the socket whatever the URL says; its host and port only end up in the Host header.
+     * Netty needs its native transport for domain sockets (epoll on Linux, kqueue on macOS).
+     */
+    static ClientHttpRequestFactory unixSocketRequestFactory(final Path socketPath) {
+        if (!LoopResources.hasNativeSupport()) {
+            throw new IllegalStateException("Unix domain sockets need Netty's native epoll or kqueue transport");
+        }
+        final HttpClient httpClient =
+                HttpClient.create().remoteAddress(() -> new DomainSocketAddress(socketPath.toString()));
+        return new ReactorNettyClientRequestFactory(httpClient);
+    }
 }
@@ -0,0 +1,48 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.web.EmployeeCacheInterceptor;
+import com.reliaquest.api.web.EmployeeListResponseCache;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final EmployeeRoster roster;
+    private final Duration cacheMaxAge;
+    private final EmployeeListResponseCache listResponseCache;
+    private final boolean listResponseCacheEnabled;
+
+    public WebConfig(
+            final EmployeeRoster roster,
+            @Value("${employee.http.cache.max-age:0s}") final Duration cacheMaxAge,
+            final EmployeeListResponseCache listResponseCache,
+            @Value("${employee.http.response-cache.enabled:true}") final boolean listResponseCacheEnabled) {
+        this.roster = roster;
+        this.cacheMaxAge = cacheMaxAge;
+        this.listResponseCache = listResponseCache;
+        this.listResponseCacheEnabled = listResponseCacheEnabled;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        // Only the endpoints whose body is derived from the cached roster; name search goes upstream
+        registry.addInterceptor(new EmployeeCacheInterceptor(roster, cacheMaxAge))
+                .addPathPatterns(
+                        "/api/employees",
+                        "/api/employees/search/fuzzy/*",
+                        "/api/employees/search/prefix/*",
+                        "/api/employees/highestSalary",
+                        "/api/employees/topTenHighestEarningEmployeeNames",
+                        "/api/employees/rank",
+                        "/api/employees/facets");
+        if (listResponseCacheEnabled) {
+            // After the validators, so a 304 never pays for the body
+            registry.addInterceptor(listResponseCache).addPathPatterns("/api/employees");
+        }
+    }
+}
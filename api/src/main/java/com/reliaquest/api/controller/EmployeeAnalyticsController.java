@@ -0,0 +1,144 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeFacets;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.RankField;
+import com.reliaquest.api.model.SalaryHistogram;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import com.reliaquest.api.service.EmployeeAnalyticsService;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for analytics over the Employee Resource.
+ * Ranges, rankings, facets and histograms come from the cached roster, salary statistics from the mock server.
+ */
+@RestController
+@RequestMapping("api/employees")
+@Slf4j
+public class EmployeeAnalyticsController {
+
+    private final EmployeeAnalyticsService analyticsService;
+    private final EmployeeService employeeService;
+
+    EmployeeAnalyticsController(
+            final EmployeeAnalyticsService analyticsService, final EmployeeService employeeService) {
+        this.analyticsService = analyticsService;
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping("/salary-between")
+    public ResponseEntity<List<EmployeeResource>> getEmployeesBySalaryRange(
+            @RequestParam("min") final int min, @RequestParam("max") final int max) {
+        try {
+            log.info("Controller: Getting employees with salary between {} and {}", min, max);
+            return UpstreamResponses.toResponse(analyticsService.getEmployeesBySalaryRange(min, max));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid salary range: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error getting employees by salary range", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/age-between")
+    public ResponseEntity<List<EmployeeResource>> getEmployeesByAgeRange(
+            @RequestParam("min") final int min, @RequestParam("max") final int max) {
+        try {
+            log.info("Controller: Getting employees with age between {} and {}", min, max);
+            return UpstreamResponses.toResponse(analyticsService.getEmployeesByAgeRange(min, max));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid age range: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error getting employees by age range", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/salary-histogram")
+    public ResponseEntity<SalaryHistogram> getSalaryHistogram(
+            @RequestParam(name = "buckets", defaultValue = "10") final int buckets,
+            @RequestParam(name = "from", required = false) final Integer from,
+            @RequestParam(name = "to", required = false) final Integer to) {
+        try {
+            log.info("Controller: Getting salary histogram");
+            return UpstreamResponses.toResponse(analyticsService.getSalaryHistogram(buckets, from, to));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid histogram request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error building salary histogram", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/rank")
+    public ResponseEntity<List<EmployeeResource>> rankEmployees(
+            @RequestParam(name = "by", defaultValue = "salary") final String by,
+            @RequestParam(name = "order", defaultValue = "desc") final String order,
+            @RequestParam(name = "n", defaultValue = "10") final int n,
+            @RequestParam(name = "title", required = false) final String title) {
+        try {
+            log.info("Controller: Ranking {} employees by {} {}", n, by, order);
+            return UpstreamResponses.toResponse(
+                    analyticsService.rank(RankField.parse(by), EmployeeAnalyticsService.isDescending(order), n, title));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid rank request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error ranking employees", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<EmployeeFacets> getFacets(
+            @RequestParam(name = "title", required = false) final List<String> titles,
+            @RequestParam(name = "ageBand", required = false) final List<Integer> ageBands,
+            @RequestParam(name = "salaryBand", required = false) final List<Integer> salaryBands,
+            @RequestParam(name = "limit", defaultValue = "100") final int limit) {
+        try {
+            log.info("Controller: Getting employee facets");
+            return UpstreamResponses.toResponse(analyticsService.getFacets(titles, ageBands, salaryBands, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid facet request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error getting employee facets", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/salary-stats")
+    public ResponseEntity<SalaryStatisticsReport> getSalaryStatistics(
+            @RequestParam(name = "title", required = false) final String title) {
+        try {
+            log.info("Controller: Getting salary statistics");
+            return UpstreamResponses.toResponse(employeeService
+                    .getSalaryStatistics()
+                    .map(report -> title == null ? report : forTitle(report, title))
+                    .flatMap(report -> title == null || !report.byTitle().isEmpty()
+                            ? UpstreamResult.found(report)
+                            : UpstreamResult.<SalaryStatisticsReport>notFound()));
+        } catch (Exception e) {
+            log.error("Controller: Error getting salary statistics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private static SalaryStatisticsReport forTitle(final SalaryStatisticsReport report, final String title) {
+        final var statistics = report.byTitle() == null ? null : report.byTitle().get(title);
+        return new SalaryStatisticsReport(report.overall(), statistics == null ? Map.of() : Map.of(title, statistics));
+    }
+}
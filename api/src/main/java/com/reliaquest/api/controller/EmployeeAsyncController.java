@@ -0,0 +1,78 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.EmployeeCommand;
+import com.reliaquest.api.model.EmployeeCreateStatus;
+import com.reliaquest.api.service.EmployeeCreateQueue;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Controller for asynchronous employee creates, only present when the write-behind queue is enabled
+ */
+@RestController
+@RequestMapping("api/employees/async")
+@ConditionalOnProperty(name = "employee.create.async.enabled", havingValue = "true")
+@Slf4j
+public class EmployeeAsyncController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final EmployeeCreateQueue createQueue;
+
+    EmployeeAsyncController(final EmployeeCreateQueue createQueue) {
+        this.createQueue = createQueue;
+    }
+
+    @PostMapping
+    public ResponseEntity<EmployeeCreateStatus> createEmployee(@RequestBody final EmployeeCommand employeeInput) {
+        try {
+            log.info("Controller: Queueing employee create");
+            final var status = createQueue.submit(employeeInput);
+            final var location = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .path("/{trackingId}")
+                    .buildAndExpand(status.trackingId())
+                    .toUri();
+            return ResponseEntity.accepted().location(location).body(status);
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid employee data: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            log.warn("Controller: Create queue is full");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        } catch (Exception e) {
+            log.error("Controller: Error queueing employee create", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<EmployeeCreateStatus> getStatus(@PathVariable final String trackingId) {
+        try {
+            log.info("Controller: Getting status of queued create {}", trackingId);
+            return createQueue
+                    .status(UUID.fromString(trackingId))
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid tracking id: {}", trackingId);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error getting create status", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.service.EmployeeSearchService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for name searches beyond substring matching, served from indexes over the cached roster
+ */
+@RestController
+@RequestMapping("api/employees/search")
+@Slf4j
+public class EmployeeSearchController {
+
+    private final EmployeeSearchService searchService;
+
+    EmployeeSearchController(final EmployeeSearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/fuzzy/{name}")
+    public ResponseEntity<List<EmployeeResource>> fuzzySearch(
+            @PathVariable final String name,
+            @RequestParam(name = "distance", defaultValue = "2") final int distance,
+            @RequestParam(name = "limit", defaultValue = "20") final int limit) {
+        try {
+            log.info("Controller: Fuzzy searching employees by name: {}", name);
+            return UpstreamResponses.toResponse(searchService.fuzzySearch(name, distance, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid fuzzy search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error fuzzy searching employees", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/prefix/{prefix}")
+    public ResponseEntity<List<String>> autocomplete(
+            @PathVariable final String prefix, @RequestParam(name = "limit", defaultValue = "10") final int limit) {
+        try {
+            log.debug("Controller: Completing employee name prefix: {}", prefix);
+            return UpstreamResponses.toResponse(searchService.autocomplete(prefix, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Controller: Invalid autocomplete request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Controller: Error completing employee names", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.gateway.UpstreamResult;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Maps upstream results onto responses: found to the given status, not found to 404,
+ * rejected to 400, throttled to 503 with Retry-After and failed to 502.
+ */
+public final class UpstreamResponses {
+
+    private UpstreamResponses() {}
+
+    public static <T> ResponseEntity<T> toResponse(final UpstreamResult<T> result) {
+        return toResponse(result, HttpStatus.OK);
+    }
+
+    public static <T> ResponseEntity<T> toResponse(final UpstreamResult<T> result, final HttpStatus status) {
+        if (result instanceof UpstreamResult.Found<T> found) {
+            return ResponseEntity.status(status).body(found.value());
+        } else if (result instanceof UpstreamResult.NotFound<T>) {
+            return ResponseEntity.notFound().build();
+        } else if (result instanceof UpstreamResult.Rejected<T>) {
+            return ResponseEntity.badRequest().build();
+        } else if (result instanceof UpstreamResult.Throttled<T> throttled) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(
+                            HttpHeaders.RETRY_AFTER,
+                            String.valueOf(Math.max(1, throttled.retryAfter().toSeconds())))
+                    .build();
+        }
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+    }
+}
@@ -1,11 +1,13 @@
 package com.reliaquest.api.controller.impl;
 
+import static com.reliaquest.api.controller.UpstreamResponses.toResponse;
+
 import com.reliaquest.api.controller.IEmployeeController;
+import com.reliaquest.api.controller.UpstreamResponses;
 import com.reliaquest.api.model.EmployeeCommand;
 import com.reliaquest.api.model.EmployeeResource;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
-import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Controller for Employee Resource
+ * Controller for Employee Resource. Upstream outcomes are mapped by {@link UpstreamResponses}.
  */
 @RestController
 @RequestMapping("api/employees")
@@ -32,8 +34,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<List<EmployeeResource>> getAllEmployees() {
         try {
             log.info("Controller: Getting all employees");
-            final List<EmployeeResource> employees = employeeService.getAllEmployees();
-            return ResponseEntity.ok(employees);
+            return toResponse(employeeService.getAllEmployees());
         } catch (Exception e) {
             log.error("Controller: Error getting all employees", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -44,8 +45,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<List<EmployeeResource>> getEmployeesByNameSearch(@PathVariable final String searchString) {
         try {
             log.info("Controller: Searching employees by name: {}", searchString);
-            final List<EmployeeResource> employees = employeeService.searchEmployeesByName(searchString);
-            return ResponseEntity.ok(employees);
+            return toResponse(employeeService.searchEmployeesByName(searchString));
         } catch (Exception e) {
             log.error("Controller: Error searching employees by name", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -56,9 +56,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<EmployeeResource> getEmployeeById(@PathVariable final String id) {
         try {
             log.info("Controller: Getting employee by ID: {}", id);
-            final Optional<EmployeeResource> employee = employeeService.getEmployeeById(id);
-            return employee.map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+            return toResponse(employeeService.getEmployeeById(id));
         } catch (Exception e) {
             log.error("Controller: Error getting employee by ID", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -69,10 +67,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         try {
             log.info("Controller: Getting highest salary");
-            Optional<Integer> highestSalary = employeeService.getHighestSalary();
-            return highestSalary
-                    .map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+            return toResponse(employeeService.getHighestSalary());
         } catch (Exception e) {
             log.error("Controller: Error getting highest salary", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -83,8 +78,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         try {
             log.info("Controller: Getting top ten highest earning employee names");
-            List<String> names = employeeService.getTopTenHighestEarningEmployeeNames();
-            return ResponseEntity.ok(names);
+            return toResponse(employeeService.getTopTenHighestEarningEmployeeNames());
         } catch (Exception e) {
             log.error("Controller: Error getting top earning employees", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -95,8 +89,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<EmployeeResource> createEmployee(@RequestBody final EmployeeCommand employeeInput) {
         try {
             log.info("Controller: Creating employee");
-            final EmployeeResource createdEmployee = employeeService.createEmployee(employeeInput);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
+            return toResponse(employeeService.createEmployee(employeeInput), HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
             log.warn("Controller: Invalid employee input: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -110,12 +103,7 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeResou
     public ResponseEntity<String> deleteEmployeeById(@PathVariable final String id) {
         try {
             log.info("Controller: Deleting employee by ID: {}", id);
-
-            return employeeService
-                    .deleteEmployeeById(id)
-                    .map(ResponseEntity::ok) // employee found + deleted
-                    .orElseGet(() -> ResponseEntity.notFound().build()); // not found
-
+            return toResponse(employeeService.deleteEmployeeById(id));
         } catch (IllegalArgumentException e) {
             log.warn("Controller: Invalid employee ID: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
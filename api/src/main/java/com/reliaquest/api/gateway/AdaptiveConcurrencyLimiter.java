@@ -0,0 +1,158 @@
+package com.reliaquest.api.gateway;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client side concurrency limit for upstream calls, adapted from observed round trip times.
+ *
+ * A long term average of the RTT is kept as the no-load baseline. While calls come back close to it
+ * the limit grows by about its square root per sample; once they get slower the limit is scaled down by
+ * the ratio of the two (the gradient), and a throttled or failed call cuts it multiplicatively. Calls
+ * over the limit wait up to {@code max-wait} for a slot and are otherwise rejected straight away, so a
+ * slow upstream can't take every request thread with it.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    // Number of samples the long term RTT averages over
+    private static final int LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+    // Latency increase tolerated before the limit is pulled back
+    private static final double TOLERANCE = 1.5;
+    private static final double BACKOFF = 0.9;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // Guarded by lock
+    private double limit;
+    private int inFlight;
+    private double longRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${employee.limiter.enabled:true}") final boolean enabled,
+            @Value("${employee.limiter.initial-limit:20}") final int initialLimit,
+            @Value("${employee.limiter.min-limit:2}") final int minLimit,
+            @Value("${employee.limiter.max-limit:200}") final int maxLimit,
+            @Value("${employee.limiter.max-wait:0ms}") final Duration maxWait) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("employee.limiter limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot for an upstream call, waiting up to {@code max-wait} for one.
+     * Every successful acquire must be followed by {@link #release(long, boolean)}.
+     * @return false if the call should be shed
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives the slot back and feeds the call's outcome into the limit
+     * @param rttNanos how long the call took
+     * @param dropped whether upstream throttled or failed the call
+     */
+    public void release(final long rttNanos, final boolean dropped) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            final int previous = (int) limit;
+            update(rttNanos, dropped);
+            inFlight--;
+            if ((int) limit > previous) {
+                released.signalAll();
+            } else {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(final long rttNanos, final boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+            log.debug("Upstream call dropped, concurrency limit now {}", (int) limit);
+            return;
+        }
+        samples++;
+        longRttNanos += (rttNanos - longRttNanos) / Math.min(samples, LONG_WINDOW);
+        // When calls are much faster than the baseline a past overload is still in it, so let it recover
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        // Nothing to learn about the limit while it isn't being used
+        if (inFlight < limit / 2) {
+            return;
+        }
+        final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / Math.max(1, rttNanos)));
+        final double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how long a shed caller should back off
+     */
+    Duration retryAfter() {
+        return Duration.ofNanos(Math.max(TimeUnit.SECONDS.toNanos(1), (long) longRttNanos));
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.gateway;
+
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Every call to the Mock Server API goes through here, over whichever {@link EmployeeTransport} is configured.
+ * Calls over the {@link AdaptiveConcurrencyLimiter}'s limit are shed as throttled without going out.
+ */
+@Component
+@Slf4j
+public class EmployeeGateway {
+
+    private final EmployeeTransport transport;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public EmployeeGateway(final EmployeeTransport transport, final AdaptiveConcurrencyLimiter limiter) {
+        this.transport = transport;
+        this.limiter = limiter;
+    }
+
+    public UpstreamResult<List<EmployeeResource>> listEmployees() {
+        return limited("list", transport::listEmployees);
+    }
+
+    /**
+     * @param nameContains passed through to the mock server, which matches on normalized names
+     */
+    public UpstreamResult<List<EmployeeResource>> searchEmployeesByName(final String nameContains) {
+        return limited("search", () -> transport.searchEmployeesByName(nameContains));
+    }
+
+    public UpstreamResult<EmployeeResource> findEmployeeById(final String id) {
+        return limited("find", () -> transport.findEmployeeById(id));
+    }
+
+    public UpstreamResult<SalaryStatisticsReport> salaryStatistics() {
+        return limited("salary statistics", transport::salaryStatistics);
+    }
+
+    public UpstreamResult<EmployeeResource> createEmployee(final Map<String, Object> requestBody) {
+        return limited("create", () -> transport.createEmployee(requestBody));
+    }
+
+    public UpstreamResult<List<EmployeeResource>> createEmployees(final List<Map<String, Object>> requestBodies) {
+        return limited("batch create", () -> transport.createEmployees(requestBodies));
+    }
+
+    /**
+     * @return the removed employee
+     */
+    public UpstreamResult<EmployeeResource> deleteEmployeeById(final String id) {
+        return limited("delete", () -> transport.deleteEmployeeById(id));
+    }
+
+    private <T> UpstreamResult<T> limited(final String operation, final Supplier<UpstreamResult<T>> call) {
+        if (!limiter.tryAcquire()) {
+            log.debug("Upstream {} shed at concurrency limit {}", operation, limiter.limit());
+            return UpstreamResult.throttled(limiter.retryAfter());
+        }
+        final long start = System.nanoTime();
+        UpstreamResult<T> result = null;
+        try {
+            result = call.get();
+            return result;
+        } finally {
+            // Throttled, failed or thrown: all signs of an overloaded upstream
+            final boolean answered = result != null
+                    && (result.isFound()
+                            || result instanceof UpstreamResult.NotFound<T>
+                            || result instanceof UpstreamResult.Rejected<T>);
+            limiter.release(System.nanoTime() - start, !answered);
+        }
+    }
+}
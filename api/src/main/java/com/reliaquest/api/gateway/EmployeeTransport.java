@@ -0,0 +1,34 @@
+package com.reliaquest.api.gateway;
+
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How {@link EmployeeGateway} reaches the Mock Server API: over HTTP ({@link HttpEmployeeTransport}) or, when both
+ * modules run in one JVM, by calling the mock service directly ({@link InProcessEmployeeTransport}).
+ * Picked with {@code employee.transport}. Outcomes are reported as {@link UpstreamResult}s, never thrown.
+ */
+public interface EmployeeTransport {
+
+    UpstreamResult<List<EmployeeResource>> listEmployees();
+
+    /**
+     * @param nameContains matched against normalized names by the mock server
+     */
+    UpstreamResult<List<EmployeeResource>> searchEmployeesByName(String nameContains);
+
+    UpstreamResult<EmployeeResource> findEmployeeById(String id);
+
+    UpstreamResult<SalaryStatisticsReport> salaryStatistics();
+
+    UpstreamResult<EmployeeResource> createEmployee(Map<String, Object> requestBody);
+
+    UpstreamResult<List<EmployeeResource>> createEmployees(List<Map<String, Object>> requestBodies);
+
+    /**
+     * @return the removed employee
+     */
+    UpstreamResult<EmployeeResource> deleteEmployeeById(String id);
+}
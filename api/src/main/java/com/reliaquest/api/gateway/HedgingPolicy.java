@@ -0,0 +1,212 @@
+package com.reliaquest.api.gateway;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedged requests for idempotent upstream reads. If the first attempt hasn't answered within the
+ * configured percentile of recent latencies, a second one is sent and whichever gives a definitive
+ * answer first wins. Hedges are paid for from a token bucket filled by a fraction of every call,
+ * so at most roughly {@code budget} of the traffic is duplicated, and never more when upstream is
+ * slow across the board.
+ */
+@Component
+@Slf4j
+public class HedgingPolicy {
+
+    private static final int WINDOW = 1024;
+    // Recomputing the percentile on every sample would cost a sort per call
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final int MIN_SAMPLES = 32;
+    private static final double MAX_TOKENS = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final double budget;
+    private final ExecutorService executor;
+
+    // Guarded by this
+    private final long[] latencies = new long[WINDOW];
+    private long samples;
+    private int next;
+    private double tokens = MAX_TOKENS;
+
+    private volatile long delayNanos = -1;
+
+    public HedgingPolicy(
+            @Value("${employee.hedge.enabled:false}") final boolean enabled,
+            @Value("${employee.hedge.percentile:0.95}") final double percentile,
+            @Value("${employee.hedge.min-delay:5ms}") final Duration minDelay,
+            @Value("${employee.hedge.budget:0.05}") final double budget,
+            @Value("${employee.hedge.max-concurrency:32}") final int maxConcurrency) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("employee.hedge.percentile must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.budget = budget;
+        this.executor = enabled ? newExecutor(maxConcurrency) : null;
+    }
+
+    /**
+     * Runs an idempotent upstream call, hedging it when it's slower than usual
+     * @param call the call, must be safe to run twice
+     * @return the first definitive answer (found or not found), otherwise whatever came back
+     */
+    public <T> UpstreamResult<T> call(final Supplier<UpstreamResult<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        earn();
+        final CompletableFuture<UpstreamResult<T>> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> timed(call), executor);
+        } catch (RejectedExecutionException e) {
+            // Every worker is busy, so hedging would only add load
+            return timed(call);
+        }
+        try {
+            return await(call, primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UpstreamResult.failed("Interrupted waiting for upstream");
+        }
+    }
+
+    private <T> UpstreamResult<T> await(
+            final Supplier<UpstreamResult<T>> call, final CompletableFuture<UpstreamResult<T>> primary)
+            throws InterruptedException {
+        final long delay = delayNanos;
+        if (delay >= 0) {
+            try {
+                return primary.get(delay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                final CompletableFuture<UpstreamResult<T>> hedge = hedge(call);
+                if (hedge != null) {
+                    return firstDefinitive(primary, hedge);
+                }
+            } catch (ExecutionException e) {
+                return failed(e);
+            }
+        }
+        try {
+            return primary.get();
+        } catch (ExecutionException e) {
+            return failed(e);
+        }
+    }
+
+    private <T> CompletableFuture<UpstreamResult<T>> hedge(final Supplier<UpstreamResult<T>> call) {
+        if (!takeToken()) {
+            log.debug("Hedge budget exhausted, waiting on the first attempt");
+            return null;
+        }
+        try {
+            log.debug("Upstream slower than {}ms, sending hedge", TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            return CompletableFuture.supplyAsync(() -> timed(call), executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Takes the first found or not found answer; a throttled or failed attempt only wins if both are
+     */
+    private static <T> UpstreamResult<T> firstDefinitive(
+            final CompletableFuture<UpstreamResult<T>> primary, final CompletableFuture<UpstreamResult<T>> hedge)
+            throws InterruptedException {
+        final CompletableFuture<UpstreamResult<T>> winner = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(2);
+        for (CompletableFuture<UpstreamResult<T>> attempt : Arrays.asList(primary, hedge)) {
+            attempt.whenComplete((result, error) -> {
+                final boolean last = pending.decrementAndGet() == 0;
+                if (result != null && (result.isFound() || result instanceof UpstreamResult.NotFound<T>)) {
+                    winner.complete(result);
+                } else if (last) {
+                    winner.complete(result != null ? result : UpstreamResult.failed(String.valueOf(error)));
+                }
+            });
+        }
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            return failed(e);
+        }
+    }
+
+    private <T> UpstreamResult<T> timed(final Supplier<UpstreamResult<T>> call) {
+        final long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    synchronized void record(final long latencyNanos) {
+        latencies[next] = latencyNanos;
+        next = (next + 1) % WINDOW;
+        samples++;
+        if (samples == MIN_SAMPLES || samples > MIN_SAMPLES && samples % RECOMPUTE_EVERY == 0) {
+            final long[] window = Arrays.copyOf(latencies, (int) Math.min(samples, WINDOW));
+            Arrays.sort(window);
+            delayNanos = Math.max(minDelayNanos, window[(int) (percentile * (window.length - 1))]);
+        }
+    }
+
+    private synchronized void earn() {
+        tokens = Math.min(MAX_TOKENS, tokens + budget);
+    }
+
+    private synchronized boolean takeToken() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * @return the current hedge delay, negative until enough latencies have been seen
+     */
+    Duration delay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> UpstreamResult<T> failed(final ExecutionException e) {
+        return UpstreamResult.failed(String.valueOf(e.getCause()));
+    }
+
+    private static ExecutorService newExecutor(final int maxConcurrency) {
+        final AtomicInteger threads = new AtomicInteger();
+        // No queue: a call that can't get a worker straight away runs on the caller unhedged
+        return new ThreadPoolExecutor(0, maxConcurrency, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "employee-hedge-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,191 @@
+package com.reliaquest.api.gateway;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.UnknownContentTypeException;
+
+/**
+ * Calls the Mock Server API over HTTP. Statuses are turned into an {@link UpstreamResult} instead of
+ * exceptions, and failures are logged once, without a stack trace.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.transport", havingValue = "http", matchIfMissing = true)
+@Slf4j
+public class HttpEmployeeTransport implements EmployeeTransport {
+
+    static final String DEFAULT_BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    // Used when a throttled response doesn't say how long to back off
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private static final ParameterizedTypeReference<ApiResponse<EmployeeResource[]>> EMPLOYEES =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<EmployeeResource>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<SalaryStatisticsReport>> SALARY_STATISTICS =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+
+    /**
+     * @param baseUrl the mock server's employee resource; when the {@link RestTemplate} connects over a unix socket
+     *                only the path is routed, the host just fills the Host header
+     */
+    public HttpEmployeeTransport(
+            final RestTemplate restTemplate,
+            @Value("${employee.upstream.base-url:" + DEFAULT_BASE_URL + "}") final String baseUrl) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public UpstreamResult<List<EmployeeResource>> listEmployees() {
+        return exchange(HttpMethod.GET, baseUrl, null, EMPLOYEES).map(Arrays::asList);
+    }
+
+    /**
+     * @param nameContains passed through to the mock server, which matches on normalized names
+     */
+    @Override
+    public UpstreamResult<List<EmployeeResource>> searchEmployeesByName(final String nameContains) {
+        return exchange(HttpMethod.GET, baseUrl + "?nameContains={nameContains}", null, EMPLOYEES, nameContains)
+                .map(Arrays::asList);
+    }
+
+    @Override
+    public UpstreamResult<EmployeeResource> findEmployeeById(final String id) {
+        return exchange(HttpMethod.GET, baseUrl + "/{id}", null, EMPLOYEE, id);
+    }
+
+    @Override
+    public UpstreamResult<SalaryStatisticsReport> salaryStatistics() {
+        return exchange(HttpMethod.GET, baseUrl + "/stats/salary", null, SALARY_STATISTICS);
+    }
+
+    @Override
+    public UpstreamResult<EmployeeResource> createEmployee(final Map<String, Object> requestBody) {
+        return exchange(HttpMethod.POST, baseUrl, requestBody, EMPLOYEE);
+    }
+
+    @Override
+    public UpstreamResult<List<EmployeeResource>> createEmployees(final List<Map<String, Object>> requestBodies) {
+        return exchange(HttpMethod.POST, baseUrl + "/batch", Map.of("employees", requestBodies), EMPLOYEES)
+                .map(Arrays::asList);
+    }
+
+    /**
+     * @return the removed employee
+     */
+    @Override
+    public UpstreamResult<EmployeeResource> deleteEmployeeById(final String id) {
+        return exchange(HttpMethod.DELETE, baseUrl + "/{id}", null, EMPLOYEE, id);
+    }
+
+    private <T> UpstreamResult<T> exchange(
+            final HttpMethod method,
+            final String url,
+            final Object body,
+            final ParameterizedTypeReference<ApiResponse<T>> responseType,
+            final Object... uriVariables) {
+        final UpstreamRequestEvent event = new UpstreamRequestEvent();
+        event.begin();
+        UpstreamResult<T> result = null;
+        try {
+            result = send(event, method, url, body, responseType, uriVariables);
+            return result;
+        } finally {
+            // The URL template, not the expanded URL, keeps the operation low cardinality
+            event.complete("http", method + " " + url, result);
+        }
+    }
+
+    private <T> UpstreamResult<T> send(
+            final UpstreamRequestEvent event,
+            final HttpMethod method,
+            final String url,
+            final Object body,
+            final ParameterizedTypeReference<ApiResponse<T>> responseType,
+            final Object... uriVariables) {
+        final ResponseEntity<ApiResponse<T>> response;
+        try {
+            response = restTemplate.exchange(
+                    url, method, body == null ? null : new HttpEntity<>(body), responseType, uriVariables);
+        } catch (UnknownContentTypeException e) {
+            // Error pages that aren't JSON, e.g. a bare 429 from a proxy
+            return classify(event, method, url, e.getStatusCode(), e.getResponseHeaders(), null);
+        } catch (RestClientResponseException e) {
+            return classify(event, method, url, e.getStatusCode(), e.getResponseHeaders(), null);
+        } catch (RestClientException e) {
+            log.warn("Upstream {} {} failed: {}", method, url, e.getMessage());
+            return UpstreamResult.failed(e.getMessage());
+        }
+        return classify(event, method, url, response.getStatusCode(), response.getHeaders(), response.getBody());
+    }
+
+    private <T> UpstreamResult<T> classify(
+            final UpstreamRequestEvent event,
+            final HttpMethod method,
+            final String url,
+            final HttpStatusCode status,
+            final HttpHeaders headers,
+            final ApiResponse<T> body) {
+        event.status = status.value();
+        if (headers != null) {
+            event.responseBytes = headers.getContentLength();
+        }
+        if (status.value() == HttpStatus.NOT_FOUND.value()) {
+            log.debug("Upstream {} {}: not found", method, url);
+            return UpstreamResult.notFound();
+        }
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            final Duration retryAfter = retryAfter(headers);
+            log.warn("Upstream {} {} throttled, retry after {}", method, url, retryAfter);
+            return UpstreamResult.throttled(retryAfter);
+        }
+        if (status.is2xxSuccessful() && body != null && body.isSuccessful() && body.getData() != null) {
+            return UpstreamResult.found(body.getData());
+        }
+        final String reason = body != null && body.getError() != null
+                ? "Upstream answered " + status.value() + ": " + body.getError()
+                : "Upstream answered " + status.value();
+        if (status.is4xxClientError()) {
+            log.warn("Upstream {} {} rejected: {}", method, url, reason);
+            return UpstreamResult.rejected(reason);
+        }
+        log.warn("Upstream {} {} failed: {}", method, url, reason);
+        return UpstreamResult.failed(reason);
+    }
+
+    private static Duration retryAfter(final HttpHeaders headers) {
+        final String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(value.trim()));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form, not worth parsing for a mock server
+            }
+        }
+        return DEFAULT_RETRY_AFTER;
+    }
+}
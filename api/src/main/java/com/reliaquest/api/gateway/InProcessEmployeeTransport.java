@@ -0,0 +1,195 @@
+package com.reliaquest.api.gateway;
+
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import com.reliaquest.server.model.CreateMockEmployeeBatchInput;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.Validator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calls the mock server's {@link MockEmployeeService} directly, for when both modules run in one JVM
+ * (co-located deployments, integration tests). No serialization and no loopback sockets, which also
+ * makes it the baseline for measuring what {@link HttpEmployeeTransport} costs.
+ *
+ * Mirrors what the mock server's controller would answer: bad input is rejected like a 400, unknown ids are not found.
+ * Input is checked by the bean {@link Validator} against the constraints declared on the mock server's models.
+ *
+ * The mock server is only compiled against: it's on the classpath in tests, and in builds run with {@code -PinProcess}.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.transport", havingValue = "in-process")
+@Slf4j
+public class InProcessEmployeeTransport implements EmployeeTransport {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Validator validator;
+
+    public InProcessEmployeeTransport(final MockEmployeeService mockEmployeeService, final Validator validator) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.validator = validator;
+    }
+
+    @Override
+    public UpstreamResult<List<EmployeeResource>> listEmployees() {
+        return call("list", () -> UpstreamResult.found(toResources(mockEmployeeService.getMockEmployees())));
+    }
+
+    @Override
+    public UpstreamResult<List<EmployeeResource>> searchEmployeesByName(final String nameContains) {
+        return call(
+                "search",
+                () -> UpstreamResult.found(toResources(mockEmployeeService.findByNameContaining(nameContains))));
+    }
+
+    @Override
+    public UpstreamResult<EmployeeResource> findEmployeeById(final String id) {
+        return call("find", () -> {
+            final UUID uuid = parseId(id);
+            return uuid == null
+                    ? UpstreamResult.rejected("Invalid employee id: " + id)
+                    : mockEmployeeService
+                            .findById(uuid)
+                            .map(employee -> UpstreamResult.found(toResource(employee)))
+                            .orElseGet(UpstreamResult::notFound);
+        });
+    }
+
+    @Override
+    public UpstreamResult<SalaryStatisticsReport> salaryStatistics() {
+        return call("salary statistics", () -> {
+            final com.reliaquest.server.model.SalaryStatisticsReport report = mockEmployeeService.salaryStatistics();
+            final Map<String, SalaryStatistics> byTitle = new LinkedHashMap<>();
+            report.byTitle().forEach((title, statistics) -> byTitle.put(title, toStatistics(statistics)));
+            return UpstreamResult.found(new SalaryStatisticsReport(toStatistics(report.overall()), byTitle));
+        });
+    }
+
+    @Override
+    public UpstreamResult<EmployeeResource> createEmployee(final Map<String, Object> requestBody) {
+        return call("create", () -> {
+            final CreateMockEmployeeInput input = toInput(requestBody);
+            final String invalid = validate(input);
+            return invalid != null
+                    ? UpstreamResult.rejected(invalid)
+                    : UpstreamResult.found(toResource(mockEmployeeService.create(input)));
+        });
+    }
+
+    @Override
+    public UpstreamResult<List<EmployeeResource>> createEmployees(final List<Map<String, Object>> requestBodies) {
+        return call("batch create", () -> {
+            final CreateMockEmployeeBatchInput batch = new CreateMockEmployeeBatchInput();
+            batch.setEmployees(
+                    requestBodies == null
+                            ? null
+                            : requestBodies.stream()
+                                    .map(InProcessEmployeeTransport::toInput)
+                                    .toList());
+            // One invalid entry rejects the whole batch, as on the mock server
+            final String invalid = validate(batch);
+            return invalid != null
+                    ? UpstreamResult.rejected(invalid)
+                    : UpstreamResult.found(toResources(mockEmployeeService.createAll(batch.getEmployees())));
+        });
+    }
+
+    @Override
+    public UpstreamResult<EmployeeResource> deleteEmployeeById(final String id) {
+        return call("delete", () -> {
+            final UUID uuid = parseId(id);
+            return uuid == null
+                    ? UpstreamResult.rejected("Invalid employee id: " + id)
+                    : mockEmployeeService
+                            .deleteById(uuid)
+                            .map(employee -> UpstreamResult.found(toResource(employee)))
+                            .orElseGet(UpstreamResult::notFound);
+        });
+    }
+
+    /**
+     * Runs a call against the mock service, reporting anything it throws as a failure like the
+     * mock server's controller advice would
+     */
+    private static <T> UpstreamResult<T> call(final String operation, final Supplier<UpstreamResult<T>> call) {
+        final UpstreamRequestEvent event = new UpstreamRequestEvent();
+        event.begin();
+        UpstreamResult<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            log.warn("In-process {} failed: {}", operation, e.getMessage());
+            result = UpstreamResult.failed(e.getMessage());
+        }
+        event.complete("in-process", operation, result);
+        return result;
+    }
+
+    private static UUID parseId(final String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static CreateMockEmployeeInput toInput(final Map<String, Object> requestBody) {
+        final CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName((String) requestBody.get("name"));
+        input.setSalary((Integer) requestBody.get("salary"));
+        input.setAge((Integer) requestBody.get("age"));
+        input.setTitle((String) requestBody.get("title"));
+        return input;
+    }
+
+    /**
+     * Runs the constraints declared on the mock server's input models, which its web layer enforces with {@code @Valid}
+     * @return why the input is invalid, null if it's valid
+     */
+    private String validate(final Object input) {
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static List<EmployeeResource> toResources(final List<MockEmployee> employees) {
+        return employees.stream().map(InProcessEmployeeTransport::toResource).toList();
+    }
+
+    private static EmployeeResource toResource(final MockEmployee employee) {
+        return new EmployeeResource(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail());
+    }
+
+    private static SalaryStatistics toStatistics(final com.reliaquest.server.model.SalaryStatistics statistics) {
+        return new SalaryStatistics(
+                statistics.count(),
+                statistics.mean(),
+                statistics.stddev(),
+                statistics.p50(),
+                statistics.p90(),
+                statistics.p99(),
+                statistics.relativeAccuracy());
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.gateway;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one call to the mock server, over either {@link EmployeeTransport}.
+ * Fields are only filled in when the recording wants the event.
+ */
+@Name("com.reliaquest.api.UpstreamRequest")
+@Label("Upstream Request")
+@Category({"ReliaQuest", "Employee API"})
+@Description("Call from the Employee API to the mock server")
+@StackTrace(false)
+class UpstreamRequestEvent extends Event {
+
+    @Label("Transport")
+    String transport;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("Found, NotFound, Throttled or Failed")
+    String outcome;
+
+    @Label("Status")
+    @Description("HTTP status, 0 without an HTTP response")
+    int status;
+
+    @Label("Response Size")
+    @Description("Content-Length of the response, -1 when unknown")
+    @DataAmount
+    long responseBytes = -1;
+
+    /**
+     * Ends the event and commits it if it's enabled and over the threshold
+     */
+    void complete(final String transport, final String operation, final UpstreamResult<?> result) {
+        end();
+        if (shouldCommit()) {
+            this.transport = transport;
+            this.operation = operation;
+            this.outcome = result == null ? "Thrown" : result.getClass().getSimpleName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.gateway;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Outcome of a call to the mock server. Expected outcomes (missing entity, rate limiting,
+ * rejected input, upstream errors) are values rather than exceptions, so callers branch on the type.
+ */
+public sealed interface UpstreamResult<T> {
+
+    record Found<T>(T value) implements UpstreamResult<T> {}
+
+    record NotFound<T>() implements UpstreamResult<T> {}
+
+    record Throttled<T>(Duration retryAfter) implements UpstreamResult<T> {}
+
+    /** Upstream refused the request as invalid (a 4xx other than 404/429) and did nothing */
+    record Rejected<T>(String reason) implements UpstreamResult<T> {}
+
+    record Failed<T>(String reason) implements UpstreamResult<T> {}
+
+    static <T> UpstreamResult<T> found(final T value) {
+        return new Found<>(value);
+    }
+
+    static <T> UpstreamResult<T> notFound() {
+        return new NotFound<>();
+    }
+
+    static <T> UpstreamResult<T> throttled(final Duration retryAfter) {
+        return new Throttled<>(retryAfter);
+    }
+
+    static <T> UpstreamResult<T> rejected(final String reason) {
+        return new Rejected<>(reason);
+    }
+
+    static <T> UpstreamResult<T> failed(final String reason) {
+        return new Failed<>(reason);
+    }
+
+    default <R> UpstreamResult<R> map(final Function<? super T, ? extends R> mapper) {
+        return flatMap(value -> found(mapper.apply(value)));
+    }
+
+    @SuppressWarnings("unchecked")
+    default <R> UpstreamResult<R> flatMap(final Function<? super T, UpstreamResult<R>> mapper) {
+        if (this instanceof Found<T> found) {
+            return mapper.apply(found.value());
+        }
+        // The other variants don't hold a T, so they can be reused as is
+        return (UpstreamResult<R>) this;
+    }
+
+    default UpstreamResult<T> ifFound(final Consumer<? super T> action) {
+        if (this instanceof Found<T> found) {
+            action.accept(found.value());
+        }
+        return this;
+    }
+
+    default boolean isFound() {
+        return this instanceof Found<T>;
+    }
+
+    /**
+     * @return a short description of why there is no value, for logs and statuses
+     */
+    default String describe() {
+        if (this instanceof Failed<T> failed) {
+            return failed.reason();
+        } else if (this instanceof Rejected<T> rejected) {
+            return rejected.reason();
+        } else if (this instanceof Throttled<T> throttled) {
+            return "Upstream throttled, retry after " + throttled.retryAfter();
+        } else if (this instanceof NotFound<T>) {
+            return "Not found";
+        }
+        return "Found";
+    }
+}
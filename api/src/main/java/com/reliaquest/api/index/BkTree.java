@@ -0,0 +1,203 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * BK-tree over string keys under Levenshtein distance, each key holding the rows that carry it.
+ *
+ * A search for keys within distance k of a query only descends into children whose edge distance
+ * is within k of the current node's, which by the triangle inequality can't hide a match. Removing
+ * a key's last row leaves its node in place as a tombstone, since it still routes to its children;
+ * once tombstones outnumber live keys the tree is rebuilt from the live ones. Not thread safe;
+ * callers guard it with the roster's lock.
+ */
+public final class BkTree {
+
+    /**
+     * A key within the searched distance and the rows holding it
+     */
+    public record Match(String key, int distance, int[] rows) {}
+
+    private static final int MIN_TOMBSTONES_FOR_REBUILD = 64;
+
+    private static final class Node {
+        private final String key;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+        private int[] rows = new int[1];
+        private int rowCount;
+
+        private Node(final String key) {
+            this.key = key;
+        }
+    }
+
+    private Node root;
+    private int liveKeys;
+    private int tombstones;
+
+    public void add(final String key, final int row) {
+        if (root == null) {
+            root = new Node(key);
+            liveKeys++;
+            addRow(root, row);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            final int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.rowCount == 0) {
+                    // Key comes back to its tombstone
+                    tombstones--;
+                    liveKeys++;
+                }
+                addRow(node, row);
+                return;
+            }
+            final Node child = node.children.get(distance);
+            if (child == null) {
+                final Node created = new Node(key);
+                node.children.put(distance, created);
+                liveKeys++;
+                addRow(created, row);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public boolean remove(final String key, final int row) {
+        final Node node = find(key);
+        if (node == null) {
+            return false;
+        }
+        for (int i = 0; i < node.rowCount; i++) {
+            if (node.rows[i] == row) {
+                node.rows[i] = node.rows[--node.rowCount];
+                if (node.rowCount == 0) {
+                    liveKeys--;
+                    tombstones++;
+                    if (tombstones >= MIN_TOMBSTONES_FOR_REBUILD && tombstones > liveKeys) {
+                        rebuild();
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param query key to search around
+     * @param maxDistance largest edit distance to match
+     * @return matching keys, closest first and alphabetical within a distance
+     */
+    public List<Match> search(final String query, final int maxDistance) {
+        final List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        final Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final Node node = pending.pop();
+            final int distance = distance(query, node.key);
+            if (distance <= maxDistance && node.rowCount > 0) {
+                matches.add(new Match(node.key, distance, Arrays.copyOf(node.rows, node.rowCount)));
+            }
+            for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                final Node child = node.children.get(edge);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::key));
+        return matches;
+    }
+
+    public int size() {
+        return liveKeys;
+    }
+
+    int tombstones() {
+        return tombstones;
+    }
+
+    private Node find(final String key) {
+        Node node = root;
+        while (node != null) {
+            final int distance = distance(key, node.key);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    private static void addRow(final Node node, final int row) {
+        if (node.rowCount == node.rows.length) {
+            node.rows = Arrays.copyOf(node.rows, node.rowCount * 2);
+        }
+        node.rows[node.rowCount++] = row;
+    }
+
+    private void rebuild() {
+        final List<Node> live = new ArrayList<>(liveKeys);
+        final Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final Node node = pending.pop();
+            if (node.rowCount > 0) {
+                live.add(node);
+            }
+            node.children.values().forEach(pending::push);
+        }
+        // Inserting in key order would degenerate the tree into a list
+        Collections.shuffle(live, new Random(live.size()));
+        root = null;
+        liveKeys = 0;
+        tombstones = 0;
+        for (Node node : live) {
+            for (int i = 0; i < node.rowCount; i++) {
+                add(node.key, node.rows[i]);
+            }
+        }
+    }
+
+    /**
+     * Levenshtein distance with two rolling rows
+     */
+    static int distance(final String a, final String b) {
+        if (a.length() < b.length()) {
+            return distance(b, a);
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            final char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                final int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.index;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over UUIDs that grows as a scalable Bloom filter: once a layer holds its planned
+ * number of ids a new one twice the size is added, with half the false positive rate, so the
+ * overall rate stays under twice the first layer's. Ids can't be removed; a removed id only costs
+ * a false positive.
+ *
+ * Never answers false for an id that was put. Puts must not race each other (the roster's write
+ * lock serializes them), lookups can run concurrently with a put.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private static final class Layer {
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+        private final int capacity;
+        private int count;
+
+        private Layer(final int capacity, final double falsePositiveRate) {
+            final double optimalBits = -capacity * Math.log(falsePositiveRate) / (LN2 * LN2);
+            final int wordCount = (int) Math.max(1, Math.ceil(optimalBits / Long.SIZE));
+            this.words = new AtomicLongArray(wordCount);
+            this.bits = (long) wordCount * Long.SIZE;
+            this.hashes = (int) Math.max(1, Math.round(bits / (double) capacity * LN2));
+            this.capacity = capacity;
+        }
+
+        private void put(final long hash1, final long hash2) {
+            for (int i = 0; i < hashes; i++) {
+                final long bit = Math.floorMod(hash1 + i * hash2, bits);
+                final int word = (int) (bit >>> 6);
+                final long mask = 1L << bit;
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndAccumulate(word, mask, (current, add) -> current | add);
+                }
+            }
+            count++;
+        }
+
+        private boolean mightContain(final long hash1, final long hash2) {
+            for (int i = 0; i < hashes; i++) {
+                final long bit = Math.floorMod(hash1 + i * hash2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final double falsePositiveRate;
+
+    // Replaced, never modified in place, when a layer is added
+    private volatile Layer[] layers;
+
+    /**
+     * @param initialCapacity ids the first layer is sized for
+     * @param falsePositiveRate target rate of the first layer
+     */
+    public BloomFilter(final int initialCapacity, final double falsePositiveRate) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.layers = new Layer[] {new Layer(initialCapacity, falsePositiveRate)};
+    }
+
+    public void put(final UUID id) {
+        final Layer[] current = layers;
+        Layer last = current[current.length - 1];
+        if (last.count >= last.capacity) {
+            last = new Layer(
+                    Math.multiplyExact(last.capacity, 2), falsePositiveRate / (1L << Math.min(current.length, 62)));
+            final Layer[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = last;
+            layers = grown;
+        }
+        last.put(hash1(id), hash2(id));
+    }
+
+    /**
+     * @return false if the id was definitely never put
+     */
+    public boolean mightContain(final UUID id) {
+        final long hash1 = hash1(id);
+        final long hash2 = hash2(id);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int layerCount() {
+        return layers.length;
+    }
+
+    private static long hash1(final UUID id) {
+        return mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+    }
+
+    private static long hash2(final UUID id) {
+        // Odd, so a zero stride can't put every probe on the same bit
+        return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,205 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie over string keys where every node keeps the k best scored rows below it, so a
+ * completion lookup is a walk down the prefix and a copy of at most k rows.
+ *
+ * Children are kept in sorted parallel arrays rather than maps. Adding a row offers it to
+ * the k best of every node on its path; removing one recomputes, deepest first, only the
+ * nodes on the path whose k best held it, from their own keys and their children's k best.
+ * Higher scores rank first, ties by lower row. Not thread safe; callers guard it with the
+ * roster's lock.
+ */
+public final class PrefixTrie {
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        // Rows whose key ends here
+        private int[] keyRows = new int[0];
+        private int[] keyScores = new int[0];
+        private int keyCount;
+
+        // Best rows anywhere below, best first
+        private final int[] topRows;
+        private final int[] topScores;
+        private int topCount;
+
+        private Node(final int k) {
+            topRows = new int[k];
+            topScores = new int[k];
+        }
+    }
+
+    private final int k;
+    private final Node root;
+
+    public PrefixTrie(final int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+        this.root = new Node(k);
+    }
+
+    public void add(final String key, final int row, final int score) {
+        Node node = root;
+        offer(node, row, score);
+        for (int i = 0; i < key.length(); i++) {
+            node = child(node, key.charAt(i), true);
+            offer(node, row, score);
+        }
+        if (node.keyCount == node.keyRows.length) {
+            node.keyRows = Arrays.copyOf(node.keyRows, Math.max(1, node.keyCount * 2));
+            node.keyScores = Arrays.copyOf(node.keyScores, node.keyRows.length);
+        }
+        node.keyRows[node.keyCount] = row;
+        node.keyScores[node.keyCount] = score;
+        node.keyCount++;
+    }
+
+    public boolean remove(final String key, final int row) {
+        final Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = child(path[i], key.charAt(i), false);
+            if (path[i + 1] == null) {
+                return false;
+            }
+        }
+        final Node end = path[key.length()];
+        final int at = indexOf(end.keyRows, end.keyCount, row);
+        if (at < 0) {
+            return false;
+        }
+        end.keyCount--;
+        end.keyRows[at] = end.keyRows[end.keyCount];
+        end.keyScores[at] = end.keyScores[end.keyCount];
+
+        for (int depth = key.length(); depth >= 0; depth--) {
+            final Node node = path[depth];
+            if (indexOf(node.topRows, node.topCount, row) >= 0) {
+                recompute(node);
+            }
+            if (depth > 0 && node.keyCount == 0 && node.childCount == 0) {
+                detach(path[depth - 1], key.charAt(depth - 1));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param prefix prefix of the keys to complete
+     * @param limit most rows to return, at most k
+     * @return rows of the best scored keys starting with the prefix, best first
+     */
+    public int[] complete(final String prefix, final int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = child(node, prefix.charAt(i), false);
+        }
+        return node == null ? new int[0] : Arrays.copyOf(node.topRows, Math.min(limit, node.topCount));
+    }
+
+    public int k() {
+        return k;
+    }
+
+    private void offer(final Node node, final int row, final int score) {
+        if (indexOf(node.topRows, node.topCount, row) >= 0) {
+            // Already ranked through another of the row's keys
+            return;
+        }
+        int pos = node.topCount;
+        while (pos > 0 && better(score, row, node.topScores[pos - 1], node.topRows[pos - 1])) {
+            pos--;
+        }
+        if (pos == k) {
+            return;
+        }
+        final int last = Math.min(node.topCount, k - 1);
+        System.arraycopy(node.topRows, pos, node.topRows, pos + 1, last - pos);
+        System.arraycopy(node.topScores, pos, node.topScores, pos + 1, last - pos);
+        node.topRows[pos] = row;
+        node.topScores[pos] = score;
+        node.topCount = Math.min(k, node.topCount + 1);
+    }
+
+    private void recompute(final Node node) {
+        node.topCount = 0;
+        for (int i = 0; i < node.keyCount; i++) {
+            offer(node, node.keyRows[i], node.keyScores[i]);
+        }
+        for (int c = 0; c < node.childCount; c++) {
+            final Node child = node.children[c];
+            for (int i = 0; i < child.topCount; i++) {
+                offer(node, child.topRows[i], child.topScores[i]);
+            }
+        }
+    }
+
+    private static boolean better(final int score, final int row, final int otherScore, final int otherRow) {
+        return score > otherScore || (score == otherScore && row < otherRow);
+    }
+
+    private Node child(final Node node, final char label, final boolean create) {
+        final int at = Arrays.binarySearch(node.labels, 0, node.childCount, label);
+        if (at >= 0) {
+            return node.children[at];
+        }
+        if (!create) {
+            return null;
+        }
+        final int pos = -at - 1;
+        if (node.childCount == node.labels.length) {
+            node.labels = Arrays.copyOf(node.labels, Math.max(2, node.childCount * 2));
+            node.children = Arrays.copyOf(node.children, node.labels.length);
+        }
+        System.arraycopy(node.labels, pos, node.labels, pos + 1, node.childCount - pos);
+        System.arraycopy(node.children, pos, node.children, pos + 1, node.childCount - pos);
+        node.labels[pos] = label;
+        node.children[pos] = new Node(k);
+        node.childCount++;
+        return node.children[pos];
+    }
+
+    private static void detach(final Node parent, final char label) {
+        final int at = Arrays.binarySearch(parent.labels, 0, parent.childCount, label);
+        if (at < 0) {
+            return;
+        }
+        System.arraycopy(parent.labels, at + 1, parent.labels, at, parent.childCount - at - 1);
+        System.arraycopy(parent.children, at + 1, parent.children, at, parent.childCount - at - 1);
+        parent.childCount--;
+        parent.children[parent.childCount] = null;
+    }
+
+    private static int indexOf(final int[] rows, final int count, final int row) {
+        for (int i = 0; i < count; i++) {
+            if (rows[i] == row) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return number of nodes, for tests
+     */
+    int nodeCount() {
+        final List<Node> pending = new ArrayList<>(List.of(root));
+        int count = 0;
+        while (!pending.isEmpty()) {
+            final Node node = pending.remove(pending.size() - 1);
+            count++;
+            pending.addAll(Arrays.asList(node.children).subList(0, node.childCount));
+        }
+        return count;
+    }
+}
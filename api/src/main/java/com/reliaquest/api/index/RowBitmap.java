@@ -0,0 +1,356 @@
+package com.reliaquest.api.index;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of row ids in the style of Roaring bitmaps.
+ *
+ * Rows are split by their high 16 bits into containers of up to 65536 values. A sparse container
+ * is a sorted {@code char[]}; past 4096 values, where that would outgrow it, it becomes a 1024 word
+ * bitmap, and turns back once it shrinks again. AND, OR and intersection counts work container by
+ * container, on words where both sides are bitmaps. Not thread safe; callers guard it with the
+ * roster's lock.
+ */
+public final class RowBitmap {
+
+    static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private static final class Container {
+        // Exactly one of the two is set
+        private char[] array;
+        private long[] words;
+        private int cardinality;
+
+        private static Container ofArray(final char[] array, final int cardinality) {
+            final Container container = new Container();
+            container.array = array;
+            container.cardinality = cardinality;
+            return container;
+        }
+
+        private static Container ofWords(final long[] words) {
+            final Container container = new Container();
+            container.words = words;
+            for (long word : words) {
+                container.cardinality += Long.bitCount(word);
+            }
+            return container.cardinality <= ARRAY_MAX ? container.toArrayContainer() : container;
+        }
+
+        private boolean contains(final char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, value) >= 0;
+        }
+
+        private boolean add(final char value) {
+            if (words != null) {
+                final long before = words[value >>> 6];
+                words[value >>> 6] = before | (1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                cardinality++;
+                return true;
+            }
+            final int at = Arrays.binarySearch(array, 0, cardinality, value);
+            if (at >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX) {
+                toBitmapContainer();
+                return add(value);
+            }
+            final int pos = -at - 1;
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(array, pos, array, pos + 1, cardinality - pos);
+            array[pos] = value;
+            cardinality++;
+            return true;
+        }
+
+        private boolean remove(final char value) {
+            if (words != null) {
+                final long before = words[value >>> 6];
+                words[value >>> 6] = before & ~(1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                if (--cardinality <= ARRAY_MAX) {
+                    final Container converted = toArrayContainer();
+                    array = converted.array;
+                    words = null;
+                }
+                return true;
+            }
+            final int at = Arrays.binarySearch(array, 0, cardinality, value);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(array, at + 1, array, at, cardinality - at - 1);
+            cardinality--;
+            return true;
+        }
+
+        private Container copy() {
+            return words != null
+                    ? ofWords(Arrays.copyOf(words, WORDS))
+                    : ofArray(Arrays.copyOf(array, cardinality), cardinality);
+        }
+
+        private long[] words() {
+            if (words != null) {
+                return words;
+            }
+            final long[] converted = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                converted[array[i] >>> 6] |= 1L << array[i];
+            }
+            return converted;
+        }
+
+        private void toBitmapContainer() {
+            words = words();
+            array = null;
+        }
+
+        private Container toArrayContainer() {
+            final char[] values = new char[cardinality];
+            int n = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[n++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return ofArray(values, n);
+        }
+
+        private Container and(final Container other) {
+            if (words != null && other.words != null) {
+                final long[] result = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) {
+                    result[w] = words[w] & other.words[w];
+                }
+                return ofWords(result);
+            }
+            // Probe the array side against the other
+            final Container small = array != null ? this : other;
+            final Container large = small == this ? other : this;
+            final char[] result = new char[small.cardinality];
+            int n = 0;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.array[i])) {
+                    result[n++] = small.array[i];
+                }
+            }
+            return ofArray(result, n);
+        }
+
+        private int andCardinality(final Container other) {
+            if (words != null && other.words != null) {
+                int count = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    count += Long.bitCount(words[w] & other.words[w]);
+                }
+                return count;
+            }
+            final Container small = array != null ? this : other;
+            final Container large = small == this ? other : this;
+            int count = 0;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.array[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private Container or(final Container other) {
+            if (array != null && other.array != null && cardinality + other.cardinality <= ARRAY_MAX) {
+                final char[] result = new char[cardinality + other.cardinality];
+                int i = 0;
+                int j = 0;
+                int n = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    if (j == other.cardinality || (i < cardinality && array[i] < other.array[j])) {
+                        result[n++] = array[i++];
+                    } else if (i == cardinality || other.array[j] < array[i]) {
+                        result[n++] = other.array[j++];
+                    } else {
+                        result[n++] = array[i++];
+                        j++;
+                    }
+                }
+                return ofArray(result, n);
+            }
+            final long[] result = Arrays.copyOf(words(), WORDS);
+            final long[] otherWords = other.words();
+            for (int w = 0; w < WORDS; w++) {
+                result[w] |= otherWords[w];
+            }
+            return ofWords(result);
+        }
+    }
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    public boolean add(final int row) {
+        final char key = (char) (row >>> 16);
+        int at = Arrays.binarySearch(keys, 0, size, key);
+        if (at < 0) {
+            at = insertContainer(-at - 1, key, Container.ofArray(new char[4], 0));
+        }
+        return containers[at].add((char) row);
+    }
+
+    public boolean remove(final int row) {
+        final int at = Arrays.binarySearch(keys, 0, size, (char) (row >>> 16));
+        if (at < 0 || !containers[at].remove((char) row)) {
+            return false;
+        }
+        if (containers[at].cardinality == 0) {
+            System.arraycopy(keys, at + 1, keys, at, size - at - 1);
+            System.arraycopy(containers, at + 1, containers, at, size - at - 1);
+            containers[--size] = null;
+        }
+        return true;
+    }
+
+    public boolean contains(final int row) {
+        final int at = Arrays.binarySearch(keys, 0, size, (char) (row >>> 16));
+        return at >= 0 && containers[at].contains((char) row);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return rows in both bitmaps
+     */
+    public RowBitmap and(final RowBitmap other) {
+        final RowBitmap result = new RowBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                final Container container = containers[i++].and(other.containers[j++]);
+                if (container.cardinality > 0) {
+                    result.append(keys[i - 1], container);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return number of rows in both bitmaps, without building the intersection
+     */
+    public int andCardinality(final RowBitmap other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                count += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return rows in either bitmap
+     */
+    public RowBitmap or(final RowBitmap other) {
+        final RowBitmap result = new RowBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || other.keys[j] < keys[i]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return rows in ascending order
+     */
+    public int[] toArray() {
+        final int[] rows = new int[cardinality()];
+        int n = 0;
+        for (int c = 0; c < size; c++) {
+            final int high = keys[c] << 16;
+            final Container container = containers[c];
+            if (container.array != null) {
+                for (int i = 0; i < container.cardinality; i++) {
+                    rows[n++] = high | container.array[i];
+                }
+            } else {
+                for (int w = 0; w < WORDS; w++) {
+                    long word = container.words[w];
+                    while (word != 0) {
+                        rows[n++] = high | ((w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * @return whether the container holding the row is a bitmap, for tests
+     */
+    boolean isBitmapContainer(final int row) {
+        final int at = Arrays.binarySearch(keys, 0, size, (char) (row >>> 16));
+        return at >= 0 && containers[at].words != null;
+    }
+
+    private int insertContainer(final int pos, final char key, final Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(1, size * 2));
+            containers = Arrays.copyOf(containers, keys.length);
+        }
+        System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+        System.arraycopy(containers, pos, containers, pos + 1, size - pos);
+        keys[pos] = key;
+        containers[pos] = container;
+        size++;
+        return pos;
+    }
+
+    private void append(final char key, final Container container) {
+        insertContainer(size, key, container);
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.api.index;
+
+import java.util.Arrays;
+
+/**
+ * Sorted primitive index of (key, row) pairs, e.g. salary to roster row.
+ *
+ * Inserts and removes shift the arrays in place instead of re-sorting, range
+ * lookups are two binary searches. Between {@link #beginBatch()} and {@link #endBatch()}
+ * they are only recorded, then applied with one sort and one pass over the arrays, so
+ * loading n rows is O(n log n) rather than a shift per row. Not thread safe; callers
+ * guard it with the roster's lock.
+ */
+public final class SortedIntIndex {
+
+    private int[] keys = new int[16];
+    private int[] rows = new int[16];
+    private int size;
+
+    // (key, row) pairs recorded during a batch, packed so they sort by key then row
+    private boolean batching;
+    private long[] pendingInserts = new long[0];
+    private int pendingInsertCount;
+    private long[] pendingRemoves = new long[0];
+    private int pendingRemoveCount;
+
+    public void insert(final int key, final int row) {
+        if (batching) {
+            pendingInserts = append(pendingInserts, pendingInsertCount++, pack(key, row));
+            return;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            rows = Arrays.copyOf(rows, size * 2);
+        }
+        final int pos = upperBound(key);
+        System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+        System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+        keys[pos] = key;
+        rows[pos] = row;
+        size++;
+    }
+
+    /**
+     * @return whether the pair was present; always true during a batch, where it's only recorded
+     */
+    public boolean remove(final int key, final int row) {
+        if (batching) {
+            pendingRemoves = append(pendingRemoves, pendingRemoveCount++, pack(key, row));
+            return true;
+        }
+        final int to = upperBound(key);
+        for (int i = lowerBound(key); i < to; i++) {
+            if (rows[i] == row) {
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                System.arraycopy(rows, i + 1, rows, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Defers inserts and removes until {@link #endBatch()}. Removes in a batch must be of pairs
+     * present before it; they're applied before the inserts.
+     */
+    public void beginBatch() {
+        batching = true;
+    }
+
+    public void endBatch() {
+        batching = false;
+        if (pendingRemoveCount > 0) {
+            removePending();
+        }
+        if (pendingInsertCount > 0) {
+            insertPending();
+        }
+        pendingInserts = new long[0];
+        pendingRemoves = new long[0];
+        pendingInsertCount = 0;
+        pendingRemoveCount = 0;
+    }
+
+    private void removePending() {
+        Arrays.sort(pendingRemoves, 0, pendingRemoveCount);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (Arrays.binarySearch(pendingRemoves, 0, pendingRemoveCount, pack(keys[i], rows[i])) < 0) {
+                keys[kept] = keys[i];
+                rows[kept] = rows[i];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    private void insertPending() {
+        Arrays.sort(pendingInserts, 0, pendingInsertCount);
+        final int capacity = Math.max(16, size + pendingInsertCount);
+        final int[] mergedKeys = new int[capacity];
+        final int[] mergedRows = new int[capacity];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < size || j < pendingInsertCount) {
+            // Existing pairs first on equal keys, as with a single insert
+            if (j == pendingInsertCount || (i < size && keys[i] <= (int) (pendingInserts[j] >> 32))) {
+                mergedKeys[n] = keys[i];
+                mergedRows[n++] = rows[i++];
+            } else {
+                mergedKeys[n] = (int) (pendingInserts[j] >> 32);
+                mergedRows[n++] = (int) pendingInserts[j++];
+            }
+        }
+        keys = mergedKeys;
+        rows = mergedRows;
+        size = n;
+    }
+
+    private static long pack(final int key, final int row) {
+        return ((long) key << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private static long[] append(final long[] values, final int count, final long value) {
+        final long[] target = count == values.length ? Arrays.copyOf(values, Math.max(16, count * 2)) : values;
+        target[count] = value;
+        return target;
+    }
+
+    /**
+     * @return position of the first key greater than or equal to the given key
+     */
+    public int lowerBound(final int key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (keys[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return position of the first key strictly greater than the given key
+     */
+    public int upperBound(final int key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (keys[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return number of keys within [min, max]
+     */
+    public int countBetween(final int min, final int max) {
+        if (min > max) {
+            return 0;
+        }
+        return upperBound(max) - lowerBound(min);
+    }
+
+    /**
+     * @return rows whose keys are within [min, max], in ascending key order
+     */
+    public int[] rowsBetween(final int min, final int max) {
+        if (min > max) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(rows, lowerBound(min), upperBound(max));
+    }
+
+    public int keyAt(final int position) {
+        return keys[position];
+    }
+
+    public int rowAt(final int position) {
+        return rows[position];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Partial selection of the first k items of a list under an ordering, in O(n log k).
+ *
+ * A bounded heap keeps the k best items seen so far with the worst of them on top, so
+ * each further item costs one comparison unless it beats that. Large inputs are split into
+ * chunks selected in parallel, and the chunk winners selected again.
+ */
+public final class TopK {
+
+    // Below this a single pass is faster than forking
+    static final int PARALLEL_THRESHOLD = 50_000;
+    private static final int CHUNK_SIZE = 16_384;
+
+    private TopK() {}
+
+    /**
+     * @param items items to select from, not modified
+     * @param order ordering, the first k under it are selected
+     * @param k how many to select
+     * @return up to k items, ordered by {@code order}
+     */
+    public static <T> List<T> select(final List<T> items, final Comparator<? super T> order, final int k) {
+        if (k <= 0 || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (items.size() < PARALLEL_THRESHOLD || k >= CHUNK_SIZE) {
+            return selectRange(items, 0, items.size(), order, k);
+        }
+        final int chunks = (items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final List<T> candidates = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> selectRange(
+                        items, chunk * CHUNK_SIZE, Math.min(items.size(), (chunk + 1) * CHUNK_SIZE), order, k))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        return selectRange(candidates, 0, candidates.size(), order, k);
+    }
+
+    private static <T> List<T> selectRange(
+            final List<T> items, final int from, final int to, final Comparator<? super T> order, final int k) {
+        // Worst of the current top k at the head
+        final PriorityQueue<T> heap = new PriorityQueue<>(Math.min(k, to - from) + 1, order.reversed());
+        for (int i = from; i < to; i++) {
+            final T item = items.get(i);
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+        final List<T> selected = new ArrayList<>(heap);
+        selected.sort(order);
+        return selected;
+    }
+}
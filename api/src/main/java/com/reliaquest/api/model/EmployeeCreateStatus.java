@@ -0,0 +1,33 @@
+package com.reliaquest.api.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Status of a create accepted by the write-behind queue
+ */
+public record EmployeeCreateStatus(
+        UUID trackingId, State state, EmployeeResource employee, String error, Instant updatedAt) {
+
+    public enum State {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+
+    public static EmployeeCreateStatus queued(final UUID trackingId) {
+        return new EmployeeCreateStatus(trackingId, State.QUEUED, null, null, Instant.now());
+    }
+
+    public EmployeeCreateStatus created(final EmployeeResource employee) {
+        return new EmployeeCreateStatus(trackingId, State.CREATED, employee, null, Instant.now());
+    }
+
+    public EmployeeCreateStatus failed(final String error) {
+        return new EmployeeCreateStatus(trackingId, State.FAILED, null, error, Instant.now());
+    }
+
+    public boolean isDone() {
+        return state != State.QUEUED;
+    }
+}
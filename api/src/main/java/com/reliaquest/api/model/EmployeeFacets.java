@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Employees matching a faceted filter, with counts per title, age band and salary band.
+ * Each dimension's counts apply the other dimensions' filters but not its own, so they show
+ * what selecting another value would return. Bands are keyed by their lower bound.
+ */
+public record EmployeeFacets(
+        int total,
+        List<EmployeeResource> employees,
+        Map<String, Integer> titles,
+        Map<Integer, Integer> ageBands,
+        Map<Integer, Integer> salaryBands) {}
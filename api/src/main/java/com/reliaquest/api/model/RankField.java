@@ -0,0 +1,33 @@
+package com.reliaquest.api.model;
+
+import java.util.function.Function;
+
+/**
+ * Employee fields rankings and autocomplete can order by
+ */
+public enum RankField {
+    SALARY(EmployeeResource::getSalary),
+    AGE(EmployeeResource::getAge);
+
+    private final Function<EmployeeResource, Integer> value;
+
+    RankField(final Function<EmployeeResource, Integer> value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the field's value, null if the employee doesn't have one
+     */
+    public Integer valueFor(final EmployeeResource employee) {
+        return value.apply(employee);
+    }
+
+    public static RankField parse(final String name) {
+        for (RankField field : values()) {
+            if (field.name().equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Cannot rank by " + name);
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Employee counts per salary bucket, bounds are inclusive
+ */
+public record SalaryHistogram(List<Bucket> buckets) {
+
+    public record Bucket(int from, int to, int count) {}
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Salary aggregates computed by the mock server.
+ * Percentiles are approximate, within relativeAccuracy of the true value.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SalaryStatistics(
+        long count, double mean, double stddev, Integer p50, Integer p90, Integer p99, double relativeAccuracy) {}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.Map;
+
+/**
+ * Salary aggregates over all employees and per title
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SalaryStatisticsReport(SalaryStatistics overall, Map<String, SalaryStatistics> byTitle) {}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeResource;
+
+/**
+ * Published once the mock server has accepted a new employee
+ */
+public record EmployeeCreatedEvent(EmployeeResource employee) {}
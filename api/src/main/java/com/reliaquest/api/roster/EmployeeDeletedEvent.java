@@ -0,0 +1,8 @@
+package com.reliaquest.api.roster;
+
+import java.util.UUID;
+
+/**
+ * Published once the mock server has removed an employee
+ */
+public record EmployeeDeletedEvent(UUID id) {}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.index.BloomFilter;
+import com.reliaquest.api.model.EmployeeResource;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells which employee ids are known not to exist, so lookups for them never go upstream.
+ *
+ * Two sources: a {@link BloomFilter} of every id the roster has held, and a short lived cache of
+ * confirmed misses: upstream 404s and employees that left the roster. Creates clear an id from the cache.
+ *
+ * The Bloom filter only proves an id is absent from the last snapshot, not from upstream: other
+ * clients create employees straight on the mock server, and those only show up at the next refresh.
+ * So it's trusted for a short trust window right after a refresh, not for the roster's whole TTL;
+ * past it, ids the filter rules out still go upstream.
+ *
+ * Unlike other listeners it's queried outside the roster's read lock, from get-by-id, which
+ * shouldn't wait for (or trigger) a roster refresh.
+ */
+@Slf4j
+@Component
+public class EmployeeIdFilter implements RosterListener {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final boolean enabled;
+    private final long trustWindowNanos;
+    private final long missTtlNanos;
+    private final int maxMisses;
+
+    private final BloomFilter ids = new BloomFilter(INITIAL_CAPACITY, FALSE_POSITIVE_RATE);
+    private final Map<UUID, Long> missExpiresAtNanos = new ConcurrentHashMap<>();
+
+    private volatile boolean refreshed;
+    private volatile long refreshedAtNanos;
+
+    public EmployeeIdFilter(
+            @Value("${employee.id-filter.enabled:false}") final boolean enabled,
+            @Value("${employee.id-filter.trust-window:1s}") final Duration trustWindow,
+            @Value("${employee.id-filter.miss-ttl:5s}") final Duration missTtl,
+            @Value("${employee.id-filter.max-misses:10000}") final int maxMisses) {
+        this.enabled = enabled;
+        this.trustWindowNanos = trustWindow.toNanos();
+        this.missTtlNanos = missTtl.toNanos();
+        this.maxMisses = maxMisses;
+    }
+
+    /**
+     * @return true if there is definitely no employee with this id
+     */
+    public boolean isKnownMissing(final UUID id) {
+        if (!enabled) {
+            return false;
+        }
+        final Long expiresAt = missExpiresAtNanos.get(id);
+        final long now = System.nanoTime();
+        if (expiresAt != null) {
+            if (now - expiresAt < 0) {
+                return true;
+            }
+            missExpiresAtNanos.remove(id, expiresAt);
+        }
+        return refreshed && now - refreshedAtNanos < trustWindowNanos && !ids.mightContain(id);
+    }
+
+    /**
+     * Remembers an id upstream answered 404 for
+     */
+    public void recordMissing(final UUID id) {
+        if (!enabled) {
+            return;
+        }
+        final long now = System.nanoTime();
+        if (missExpiresAtNanos.size() >= maxMisses) {
+            evictExpired(now);
+            if (missExpiresAtNanos.size() >= maxMisses) {
+                // Full of live entries; these ids just go upstream again
+                return;
+            }
+        }
+        missExpiresAtNanos.put(id, now + missTtlNanos);
+    }
+
+    @Override
+    public void onEmployeeAdded(final int row, final EmployeeResource employee) {
+        ids.put(employee.getId());
+        missExpiresAtNanos.remove(employee.getId());
+    }
+
+    @Override
+    public void onEmployeeRemoved(final int row, final EmployeeResource employee) {
+        recordMissing(employee.getId());
+    }
+
+    @Override
+    public void onRosterRefreshed() {
+        refreshedAtNanos = System.nanoTime();
+        refreshed = true;
+    }
+
+    /**
+     * Creates clear the cache even before the roster is loaded, when it doesn't see them
+     */
+    @EventListener
+    public void onEmployeeCreated(final EmployeeCreatedEvent event) {
+        if (event.employee() != null && event.employee().getId() != null) {
+            missExpiresAtNanos.remove(event.employee().getId());
+        }
+    }
+
+    private void evictExpired(final long now) {
+        final Iterator<Long> expiresAt = missExpiresAtNanos.values().iterator();
+        while (expiresAt.hasNext()) {
+            if (now - expiresAt.next() >= 0) {
+                expiresAt.remove();
+            }
+        }
+    }
+}
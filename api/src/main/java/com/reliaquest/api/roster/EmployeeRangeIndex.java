@@ -0,0 +1,55 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.index.SortedIntIndex;
+import com.reliaquest.api.model.EmployeeResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary and age indexes over the cached roster, for range queries and histograms
+ */
+@Component
+public class EmployeeRangeIndex implements RosterListener {
+
+    private final SortedIntIndex salaries = new SortedIntIndex();
+    private final SortedIntIndex ages = new SortedIntIndex();
+
+    @Override
+    public void onEmployeeAdded(final int row, final EmployeeResource employee) {
+        if (employee.getSalary() != null) {
+            salaries.insert(employee.getSalary(), row);
+        }
+        if (employee.getAge() != null) {
+            ages.insert(employee.getAge(), row);
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(final int row, final EmployeeResource employee) {
+        if (employee.getSalary() != null) {
+            salaries.remove(employee.getSalary(), row);
+        }
+        if (employee.getAge() != null) {
+            ages.remove(employee.getAge(), row);
+        }
+    }
+
+    @Override
+    public void beginBatch() {
+        salaries.beginBatch();
+        ages.beginBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        salaries.endBatch();
+        ages.endBatch();
+    }
+
+    public SortedIntIndex salaries() {
+        return salaries;
+    }
+
+    public SortedIntIndex ages() {
+        return ages;
+    }
+}
@@ -0,0 +1,375 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeResource;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached copy of the mock server's roster.
+ *
+ * Every employee gets a dense row id (reused after deletes) that the {@link RosterListener}
+ * indexes key on. Creates/deletes made through this API are applied in place as they happen, so
+ * indexes are only ever updated incrementally.
+ *
+ * The TTL ({@code employee.roster.ttl}) is how far behind upstream a query may be: changes made by
+ * other clients show up within about one TTL. Only the first load runs on the caller; once a roster
+ * is cached, a query past the TTL is answered from it while a background thread refreshes it.
+ */
+@Slf4j
+@Component
+public class EmployeeRoster {
+
+    private static final UpstreamResult<Void> LOADED = UpstreamResult.found(null);
+
+    private final EmployeeGateway gateway;
+    private final List<RosterListener> listeners;
+    private final long ttlNanos;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object loadMonitor = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "employee-roster-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by lock
+    private EmployeeResource[] rows = new EmployeeResource[64];
+    private final Map<UUID, Integer> rowById = new HashMap<>();
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    private int rowCount;
+
+    private volatile boolean loaded;
+    private volatile long refreshedAtNanos;
+    private volatile long version;
+    private volatile Instant lastModified = Instant.EPOCH;
+
+    public EmployeeRoster(
+            final EmployeeGateway gateway,
+            final List<RosterListener> listeners,
+            @Value("${employee.roster.ttl:1s}") final Duration ttl) {
+        this.gateway = gateway;
+        this.listeners = listeners;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Runs a query against the roster and its indexes under the read lock, refreshing first if stale
+     * @param query query to run
+     * @return the query's result, or why upstream couldn't provide the roster when there's nothing cached yet
+     */
+    public <T> UpstreamResult<T> query(final Supplier<T> query) {
+        return ensureFresh().flatMap(ignored -> {
+            lock.readLock().lock();
+            try {
+                return UpstreamResult.found(query.get());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Gets every cached employee
+     * @return a copy of the roster, or why upstream couldn't provide it
+     */
+    public UpstreamResult<List<EmployeeResource>> snapshot() {
+        return query(this::employeesInRowOrder);
+    }
+
+    /**
+     * Resolves row ids handed out by an index. Only valid inside {@link #query(Supplier)}.
+     * @param rowIds row ids
+     * @return the employees in the same order
+     */
+    public List<EmployeeResource> employeesAt(final int[] rowIds) {
+        final List<EmployeeResource> employees = new ArrayList<>(rowIds.length);
+        for (int row : rowIds) {
+            employees.add(rows[row]);
+        }
+        return employees;
+    }
+
+    /**
+     * Resolves a row id handed out by an index. Only valid inside {@link #query(Supplier)}.
+     */
+    public EmployeeResource employeeAt(final int row) {
+        return rows[row];
+    }
+
+    /**
+     * Copies the roster. Only valid inside {@link #query(Supplier)}, e.g. to take it together with {@link #version()}.
+     * @return every cached employee
+     */
+    public List<EmployeeResource> employeesInRowOrder() {
+        final List<EmployeeResource> employees = new ArrayList<>(rowById.size());
+        for (int row = 0; row < rowCount; row++) {
+            if (rows[row] != null) {
+                employees.add(rows[row]);
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Copies what is cached, without loading or refreshing
+     * @return the roster with its version, empty before the first load
+     */
+    public Optional<RosterSnapshot> cached() {
+        if (!loaded) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(new RosterSnapshot(version, lastModified, employeesInRowOrder()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Seeds a roster that was never loaded, e.g. from disk at startup. It's served straight away but
+     * counts as stale, so the next {@link #ensureFresh()} refreshes it.
+     * @return false if the roster was already loaded
+     */
+    public boolean restore(final RosterSnapshot snapshot) {
+        synchronized (loadMonitor) {
+            if (loaded) {
+                return false;
+            }
+            lock.writeLock().lock();
+            try {
+                listeners.forEach(RosterListener::beginBatch);
+                try {
+                    snapshot.employees().stream()
+                            .filter(employee -> employee != null && employee.getId() != null)
+                            .forEach(this::put);
+                } finally {
+                    listeners.forEach(RosterListener::endBatch);
+                }
+                version = snapshot.version();
+                lastModified = snapshot.lastModified();
+                refreshedAtNanos = System.nanoTime() - ttlNanos;
+                loaded = true;
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * @return true if the roster is older than the TTL: restored and not refreshed yet, or upstream
+     *         didn't answer the last refresh
+     */
+    public boolean isStale() {
+        return loaded && System.nanoTime() - refreshedAtNanos >= ttlNanos;
+    }
+
+    /**
+     * @return a counter bumped on every change to the cached roster
+     */
+    public long version() {
+        return version;
+    }
+
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    @EventListener
+    public void onEmployeeCreated(final EmployeeCreatedEvent event) {
+        if (!loaded || event.employee() == null || event.employee().getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (put(event.employee())) {
+                changed();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onEmployeeDeleted(final EmployeeDeletedEvent event) {
+        if (!loaded || event.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (remove(event.id())) {
+                changed();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the roster if it was never loaded, and starts a background refresh if it's older than the
+     * TTL. {@link #version()} and {@link #lastModified()} describe what a query would see until that
+     * refresh is applied.
+     * @return found once there is a roster to query, otherwise the upstream outcome of the first load
+     */
+    public UpstreamResult<Void> ensureFresh() {
+        if (!loaded) {
+            synchronized (loadMonitor) {
+                // Nothing cached to fall back on yet
+                return loaded ? LOADED : refresh();
+            }
+        }
+        if (System.nanoTime() - refreshedAtNanos < ttlNanos || !refreshing.compareAndSet(false, true)) {
+            return LOADED;
+        }
+        try {
+            refresher.execute(this::refreshInBackground);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            refreshing.set(false);
+        }
+        return LOADED;
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshInBackground() {
+        try {
+            final UpstreamResult<Void> result = refresh();
+            if (!result.isFound()) {
+                log.warn("Keeping cached roster, upstream did not answer");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Keeping cached roster, refresh failed: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Pulls the roster from upstream and applies the difference to the cache
+     * @return found, or the upstream outcome if it didn't hand over the roster
+     */
+    private UpstreamResult<Void> refresh() {
+        log.debug("Refreshing employee roster");
+        final RosterRefreshEvent event = new RosterRefreshEvent();
+        event.begin();
+        final UpstreamResult<List<EmployeeResource>> result = gateway.listEmployees();
+        if (!(result instanceof UpstreamResult.Found<List<EmployeeResource>> found)) {
+            log.warn("Roster refresh failed: {}", result.describe());
+            event.outcome = result.getClass().getSimpleName();
+            event.commit();
+            return result.map(ignored -> null);
+        }
+        final Map<UUID, EmployeeResource> incoming = new LinkedHashMap<>();
+        for (EmployeeResource employee : found.value()) {
+            if (employee != null && employee.getId() != null) {
+                incoming.put(employee.getId(), employee);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            int added = 0;
+            listeners.forEach(RosterListener::beginBatch);
+            try {
+                for (UUID id : new ArrayList<>(rowById.keySet())) {
+                    if (!Objects.equals(rows[rowById.get(id)], incoming.get(id)) && remove(id)) {
+                        removed++;
+                    }
+                }
+                for (EmployeeResource employee : incoming.values()) {
+                    if (put(employee)) {
+                        added++;
+                    }
+                }
+            } finally {
+                listeners.forEach(RosterListener::endBatch);
+            }
+            if (added > 0 || removed > 0) {
+                changed();
+            }
+            listeners.forEach(RosterListener::onRosterRefreshed);
+            refreshedAtNanos = System.nanoTime();
+            loaded = true;
+
+            event.outcome = "Found";
+            event.employees = rowById.size();
+            event.added = added;
+            event.removed = removed;
+            event.version = version;
+            event.commit();
+            return LOADED;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean put(final EmployeeResource employee) {
+        if (rowById.containsKey(employee.getId())) {
+            return false;
+        }
+        final int row;
+        if (freeCount > 0) {
+            row = freeRows[--freeCount];
+        } else {
+            if (rowCount == rows.length) {
+                rows = Arrays.copyOf(rows, rowCount * 2);
+            }
+            row = rowCount++;
+        }
+        rows[row] = employee;
+        rowById.put(employee.getId(), row);
+        listeners.forEach(listener -> listener.onEmployeeAdded(row, employee));
+        return true;
+    }
+
+    private boolean remove(final UUID id) {
+        final Integer row = rowById.remove(id);
+        if (row == null) {
+            return false;
+        }
+        final EmployeeResource employee = rows[row];
+        rows[row] = null;
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+        listeners.forEach(listener -> listener.onEmployeeRemoved(row, employee));
+        return true;
+    }
+
+    private void changed() {
+        version++;
+        lastModified = Instant.now();
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.index.RowBitmap;
+import com.reliaquest.api.model.EmployeeResource;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * One row bitmap per distinct title, age band and salary band of the cached roster, for faceted
+ * filtering. Bands are keyed by their lower bound, a multiple of the configured width. Titles are
+ * compared ignoring case, like ranking within a title, and keyed by the first spelling seen.
+ */
+@Component
+public class FacetIndex implements RosterListener {
+
+    private final int ageBandWidth;
+    private final int salaryBandWidth;
+
+    private final Map<String, RowBitmap> titles = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<Integer, RowBitmap> ageBands = new TreeMap<>();
+    private final Map<Integer, RowBitmap> salaryBands = new TreeMap<>();
+    private final RowBitmap all = new RowBitmap();
+
+    public FacetIndex(
+            @Value("${employee.facets.age-band:10}") final int ageBandWidth,
+            @Value("${employee.facets.salary-band:50000}") final int salaryBandWidth) {
+        if (ageBandWidth < 1 || salaryBandWidth < 1) {
+            throw new IllegalArgumentException("employee.facets band widths must be positive");
+        }
+        this.ageBandWidth = ageBandWidth;
+        this.salaryBandWidth = salaryBandWidth;
+    }
+
+    @Override
+    public void onEmployeeAdded(final int row, final EmployeeResource employee) {
+        all.add(row);
+        if (employee.getTitle() != null) {
+            titles.computeIfAbsent(employee.getTitle(), ignored -> new RowBitmap())
+                    .add(row);
+        }
+        if (employee.getAge() != null) {
+            ageBands.computeIfAbsent(ageBand(employee.getAge()), ignored -> new RowBitmap())
+                    .add(row);
+        }
+        if (employee.getSalary() != null) {
+            salaryBands
+                    .computeIfAbsent(salaryBand(employee.getSalary()), ignored -> new RowBitmap())
+                    .add(row);
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(final int row, final EmployeeResource employee) {
+        all.remove(row);
+        if (employee.getTitle() != null) {
+            remove(titles, employee.getTitle(), row);
+        }
+        if (employee.getAge() != null) {
+            remove(ageBands, ageBand(employee.getAge()), row);
+        }
+        if (employee.getSalary() != null) {
+            remove(salaryBands, salaryBand(employee.getSalary()), row);
+        }
+    }
+
+    public int ageBand(final int age) {
+        return Math.floorDiv(age, ageBandWidth) * ageBandWidth;
+    }
+
+    public int salaryBand(final int salary) {
+        return Math.floorDiv(salary, salaryBandWidth) * salaryBandWidth;
+    }
+
+    public Map<String, RowBitmap> titles() {
+        return titles;
+    }
+
+    public Map<Integer, RowBitmap> ageBands() {
+        return ageBands;
+    }
+
+    public Map<Integer, RowBitmap> salaryBands() {
+        return salaryBands;
+    }
+
+    /**
+     * @return every row in the roster
+     */
+    public RowBitmap all() {
+        return all;
+    }
+
+    private static <K> void remove(final Map<K, RowBitmap> bitmaps, final K key, final int row) {
+        final RowBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null && bitmap.remove(row) && bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.index.BkTree;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.common.Names;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * BK-tree over normalized employee names, for typo tolerant search
+ */
+@Component
+public class FuzzyNameIndex implements RosterListener {
+
+    private final BkTree names = new BkTree();
+
+    @Override
+    public void onEmployeeAdded(final int row, final EmployeeResource employee) {
+        final String name = Names.normalize(employee.getName());
+        if (!name.isEmpty()) {
+            names.add(name, row);
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(final int row, final EmployeeResource employee) {
+        final String name = Names.normalize(employee.getName());
+        if (!name.isEmpty()) {
+            names.remove(name, row);
+        }
+    }
+
+    /**
+     * @param normalizedName name normalized with {@link Names#normalize(String)}
+     * @param maxDistance largest edit distance to match
+     * @return matching names, closest first
+     */
+    public List<BkTree.Match> search(final String normalizedName, final int maxDistance) {
+        return names.search(normalizedName, maxDistance);
+    }
+}
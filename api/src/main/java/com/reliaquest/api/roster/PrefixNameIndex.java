@@ -0,0 +1,70 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.index.PrefixTrie;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.RankField;
+import com.reliaquest.common.Names;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trie over normalized employee names for autocomplete. Both the whole name and each word of it
+ * are keys, so "smi" completes "John Smith"; completions are ranked by a configurable field.
+ */
+@Component
+public class PrefixNameIndex implements RosterListener {
+
+    private final RankField rankBy;
+    private final PrefixTrie names;
+
+    public PrefixNameIndex(
+            @Value("${employee.autocomplete.rank-by:salary}") final String rankBy,
+            @Value("${employee.autocomplete.max-results:10}") final int maxResults) {
+        this.rankBy = RankField.parse(rankBy);
+        this.names = new PrefixTrie(maxResults);
+    }
+
+    @Override
+    public void onEmployeeAdded(final int row, final EmployeeResource employee) {
+        final Integer value = rankBy.valueFor(employee);
+        final int score = value == null ? Integer.MIN_VALUE : value;
+        for (String key : keys(employee)) {
+            names.add(key, row, score);
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(final int row, final EmployeeResource employee) {
+        for (String key : keys(employee)) {
+            names.remove(key, row);
+        }
+    }
+
+    /**
+     * @param normalizedPrefix prefix normalized with {@link Names#normalize(String)}
+     * @param limit most rows to return
+     * @return rows of the best ranked employees with a name or name word starting with the prefix
+     */
+    public int[] complete(final String normalizedPrefix, final int limit) {
+        return names.complete(normalizedPrefix, limit);
+    }
+
+    public int maxResults() {
+        return names.k();
+    }
+
+    private static Set<String> keys(final EmployeeResource employee) {
+        final Set<String> keys = new LinkedHashSet<>();
+        if (employee.getName() == null) {
+            return keys;
+        }
+        keys.add(Names.normalize(employee.getName()));
+        for (String word : employee.getName().split("\\s+")) {
+            keys.add(Names.normalize(word));
+        }
+        keys.remove("");
+        return keys;
+    }
+}
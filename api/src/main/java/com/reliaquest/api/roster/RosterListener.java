@@ -0,0 +1,30 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeResource;
+
+/**
+ * Index kept in step with the {@link EmployeeRoster}.
+ *
+ * Callbacks run under the roster's write lock, and queries against the index are
+ * expected to run inside {@link EmployeeRoster#query(java.util.function.Supplier)},
+ * so implementations don't need their own synchronization.
+ */
+public interface RosterListener {
+
+    void onEmployeeAdded(int row, EmployeeResource employee);
+
+    void onEmployeeRemoved(int row, EmployeeResource employee);
+
+    /**
+     * Brackets a refresh or restore, which can add and remove the whole roster at once; an index may
+     * defer its updates until {@link #endBatch()} and apply them in bulk. Removes come before adds.
+     */
+    default void beginBatch() {}
+
+    default void endBatch() {}
+
+    /**
+     * Called once a refresh has brought the roster in line with upstream, after its adds and removes
+     */
+    default void onRosterRefreshed() {}
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.roster;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a roster refresh: the upstream list call plus applying the difference
+ * to the cache and every {@link RosterListener} index, under the write lock
+ */
+@Name("com.reliaquest.api.RosterRefresh")
+@Label("Roster Refresh")
+@Category({"ReliaQuest", "Employee API"})
+@Description("Employee roster pulled from the mock server and applied to the cache and its indexes")
+@StackTrace(false)
+class RosterRefreshEvent extends Event {
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Employees")
+    @Description("Cached employees after the refresh")
+    int employees;
+
+    @Label("Added")
+    int added;
+
+    @Label("Removed")
+    @Description("Employees removed, changed ones count as removed and added")
+    int removed;
+
+    @Label("Version")
+    long version;
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeResource;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Point in time copy of the {@link EmployeeRoster}, as persisted by {@link RosterSnapshotStore}
+ */
+public record RosterSnapshot(long version, Instant lastModified, List<EmployeeResource> employees) {}
@@ -0,0 +1,257 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.EmployeeResource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a copy of the {@link EmployeeRoster} on local disk, so a restart doesn't depend on the mock
+ * server being up. At startup the last snapshot is restored as a stale roster and served straight away
+ * while a background refresh fetches the current one; afterwards the roster is written out whenever its
+ * version moved since the last save, and once more on shutdown.
+ *
+ * The file is written through a memory mapping of a temp file that replaces the snapshot atomically,
+ * and a CRC32 trailer guards against anything truncated or corrupt being restored.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.roster.snapshot.enabled", havingValue = "true")
+public class RosterSnapshotStore {
+
+    private static final int MAGIC = 0x45525331; // "ERS1"
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 4;
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final EmployeeRoster roster;
+    private final Path path;
+    private final Duration interval;
+
+    private volatile boolean running;
+    private Thread writer;
+    private long savedVersion = -1;
+
+    public RosterSnapshotStore(
+            final EmployeeRoster roster,
+            @Value("${employee.roster.snapshot.path}") final String path,
+            @Value("${employee.roster.snapshot.interval:10s}") final Duration interval) {
+        this.roster = roster;
+        this.path = Path.of(path);
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    void start() {
+        read(path).ifPresent(snapshot -> {
+            if (roster.restore(snapshot)) {
+                savedVersion = snapshot.version();
+                log.info(
+                        "Restored {} employees from roster snapshot {}, version {}",
+                        snapshot.employees().size(),
+                        path,
+                        snapshot.version());
+            }
+        });
+        running = true;
+        writer = new Thread(this::run, "roster-snapshot");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        save();
+    }
+
+    /**
+     * Writes the roster out if it changed since the last save
+     * @return true if a snapshot was written
+     */
+    synchronized boolean save() {
+        final Optional<RosterSnapshot> snapshot = roster.cached();
+        if (snapshot.isEmpty() || snapshot.get().version() == savedVersion) {
+            return false;
+        }
+        try {
+            write(path, snapshot.get());
+            savedVersion = snapshot.get().version();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write roster snapshot {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private void run() {
+        // A restored roster is stale; start fetching the current one now rather than on the first request
+        if (roster.isStale()) {
+            roster.ensureFresh();
+        }
+        while (running) {
+            try {
+                Thread.sleep(interval.toMillis());
+                save();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error saving roster snapshot", e);
+            }
+        }
+    }
+
+    static void write(final Path path, final RosterSnapshot snapshot) throws IOException {
+        final List<byte[]> strings = new ArrayList<>(snapshot.employees().size() * 3);
+        long size = HEADER_BYTES + 4;
+        for (EmployeeResource employee : snapshot.employees()) {
+            size += 16 + 4 + 4;
+            strings.add(utf8(employee.getName()));
+            strings.add(utf8(employee.getTitle()));
+            strings.add(utf8(employee.getEmail()));
+        }
+        for (byte[] bytes : strings) {
+            size += 4 + (bytes == null ? 0 : bytes.length);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Roster too large to snapshot");
+        }
+
+        final Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC)
+                        .putInt(FORMAT)
+                        .putLong(snapshot.version())
+                        .putLong(snapshot.lastModified().toEpochMilli())
+                        .putLong(System.currentTimeMillis())
+                        .putInt(snapshot.employees().size());
+                int string = 0;
+                for (EmployeeResource employee : snapshot.employees()) {
+                    buffer.putLong(employee.getId().getMostSignificantBits())
+                            .putLong(employee.getId().getLeastSignificantBits());
+                    putInt(buffer, employee.getSalary());
+                    putInt(buffer, employee.getAge());
+                    for (int i = 0; i < 3; i++) {
+                        putBytes(buffer, strings.get(string++));
+                    }
+                }
+                buffer.putInt(checksum(buffer, buffer.position()));
+                buffer.force();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a snapshot, ignoring a file that is missing, truncated or fails its checksum
+     */
+    static Optional<RosterSnapshot> read(final Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_BYTES + 4 || size > Integer.MAX_VALUE) {
+                throw new IOException("unexpected size " + size);
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt((int) size - 4) != checksum(buffer, (int) size - 4)) {
+                throw new IOException("checksum mismatch");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IOException("not a roster snapshot");
+            }
+            final long version = buffer.getLong();
+            final Instant lastModified = Instant.ofEpochMilli(buffer.getLong());
+            buffer.getLong(); // saved at
+            final int count = buffer.getInt();
+            final List<EmployeeResource> employees = new ArrayList<>(Math.min(count, (int) size / 32));
+            for (int i = 0; i < count; i++) {
+                final UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                final Integer salary = getInt(buffer);
+                final Integer age = getInt(buffer);
+                final String name = getString(buffer);
+                final String title = getString(buffer);
+                final String email = getString(buffer);
+                employees.add(new EmployeeResource(id, name, salary, age, title, email));
+            }
+            return Optional.of(new RosterSnapshot(version, lastModified, employees));
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Ignoring roster snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static int checksum(final ByteBuffer buffer, final int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return (int) crc.getValue();
+    }
+
+    private static byte[] utf8(final String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putInt(final ByteBuffer buffer, final Integer value) {
+        buffer.putInt(value == null ? NULL_INT : value);
+    }
+
+    private static Integer getInt(final ByteBuffer buffer) {
+        final int value = buffer.getInt();
+        return value == NULL_INT ? null : value;
+    }
+
+    private static void putBytes(final ByteBuffer buffer, final byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("bad string length " + length);
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
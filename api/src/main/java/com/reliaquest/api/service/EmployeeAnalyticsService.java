@@ -0,0 +1,239 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.index.RowBitmap;
+import com.reliaquest.api.index.SortedIntIndex;
+import com.reliaquest.api.index.TopK;
+import com.reliaquest.api.model.EmployeeFacets;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.RankField;
+import com.reliaquest.api.model.SalaryHistogram;
+import com.reliaquest.api.roster.EmployeeRangeIndex;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.FacetIndex;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class for analytics queries answered from the cached roster.
+ * An unavailable roster is passed on as an {@link UpstreamResult}; only invalid input throws.
+ */
+@Service
+@Slf4j
+public class EmployeeAnalyticsService {
+
+    static final int MAX_BUCKETS = 1000;
+    static final int MAX_RANK = 1000;
+
+    private final EmployeeRoster roster;
+    private final EmployeeRangeIndex rangeIndex;
+    private final FacetIndex facetIndex;
+
+    public EmployeeAnalyticsService(
+            final EmployeeRoster roster, final EmployeeRangeIndex rangeIndex, final FacetIndex facetIndex) {
+        this.roster = roster;
+        this.rangeIndex = rangeIndex;
+        this.facetIndex = facetIndex;
+    }
+
+    /**
+     * Gets the employees earning within the given bounds
+     * @param min lowest salary, inclusive
+     * @param max highest salary, inclusive
+     * @return matching employees ordered by salary
+     */
+    public UpstreamResult<List<EmployeeResource>> getEmployeesBySalaryRange(final int min, final int max) {
+        log.info("Fetching employees with salary between {} and {}", min, max);
+        validateRange(min, max);
+        return roster.query(() -> roster.employeesAt(rangeIndex.salaries().rowsBetween(min, max)));
+    }
+
+    /**
+     * Gets the employees aged within the given bounds
+     * @param min lowest age, inclusive
+     * @param max highest age, inclusive
+     * @return matching employees ordered by age
+     */
+    public UpstreamResult<List<EmployeeResource>> getEmployeesByAgeRange(final int min, final int max) {
+        log.info("Fetching employees with age between {} and {}", min, max);
+        validateRange(min, max);
+        return roster.query(() -> roster.employeesAt(rangeIndex.ages().rowsBetween(min, max)));
+    }
+
+    /**
+     * Splits a salary range into equal width buckets and counts the employees in each
+     * @param buckets number of buckets
+     * @param from lower bound, defaults to the lowest salary
+     * @param to upper bound, defaults to the highest salary
+     * @return the histogram, without buckets when there are no salaries to count
+     */
+    public UpstreamResult<SalaryHistogram> getSalaryHistogram(final int buckets, final Integer from, final Integer to) {
+        log.info("Building salary histogram with {} buckets", buckets);
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Bucket count must be between 1 and " + MAX_BUCKETS);
+        }
+
+        return roster.query(() -> {
+            final SortedIntIndex salaries = rangeIndex.salaries();
+            if (salaries.isEmpty() && (from == null || to == null)) {
+                return new SalaryHistogram(List.of());
+            }
+            final long lo = from != null ? from : salaries.keyAt(0);
+            final long hi = to != null ? to : salaries.keyAt(salaries.size() - 1);
+            validateRange(lo, hi);
+
+            final long width = Math.max(1, (hi - lo + buckets) / buckets);
+            final List<SalaryHistogram.Bucket> result = new ArrayList<>(buckets);
+            for (long start = lo; start <= hi && result.size() < buckets; start += width) {
+                final long end = result.size() == buckets - 1 ? hi : Math.min(hi, start + width - 1);
+                result.add(new SalaryHistogram.Bucket(
+                        (int) start, (int) end, salaries.countBetween((int) start, (int) end)));
+            }
+            return new SalaryHistogram(result);
+        });
+    }
+
+    /**
+     * Gets the first n employees ranked by a field, optionally within a single title
+     * @param by field to rank by
+     * @param descending highest first if true
+     * @param n how many employees to return
+     * @param title exact title (ignoring case) to restrict to, or null for everyone
+     * @return up to n employees in rank order, ties broken by name
+     */
+    public UpstreamResult<List<EmployeeResource>> rank(
+            final RankField by, final boolean descending, final int n, final String title) {
+        log.info("Ranking top {} employees by {} {}", n, by, descending ? "desc" : "asc");
+        if (n < 1 || n > MAX_RANK) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_RANK);
+        }
+
+        final Comparator<Integer> values = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        final Comparator<EmployeeResource> order = Comparator.comparing(by::valueFor, values)
+                .thenComparing(EmployeeResource::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        // Select on a copy so the read lock isn't held for the (possibly parallel) selection
+        return roster.snapshot().map(employees -> {
+            final List<EmployeeResource> candidates = new ArrayList<>();
+            for (EmployeeResource employee : employees) {
+                if (by.valueFor(employee) != null && (title == null || title.equalsIgnoreCase(employee.getTitle()))) {
+                    candidates.add(employee);
+                }
+            }
+            return TopK.select(candidates, order, n);
+        });
+    }
+
+    /**
+     * Filters the roster by titles, age bands and salary bands and counts the employees per value
+     * of each. Values within a dimension are OR'ed, dimensions are AND'ed; an empty or null list
+     * doesn't filter that dimension.
+     * @param titles exact titles, ignoring case as in {@link #rank}
+     * @param ageBands lower bounds of age bands
+     * @param salaryBands lower bounds of salary bands
+     * @param limit most matching employees to return, 0 for counts only
+     * @return matching employees and facet counts
+     */
+    public UpstreamResult<EmployeeFacets> getFacets(
+            final List<String> titles, final List<Integer> ageBands, final List<Integer> salaryBands, final int limit) {
+        log.info("Faceting employees by titles {}, age bands {}, salary bands {}", titles, ageBands, salaryBands);
+        if (limit < 0 || limit > MAX_RANK) {
+            throw new IllegalArgumentException("Limit must be between 0 and " + MAX_RANK);
+        }
+        validateBands(ageBands, facetIndex::ageBand, "Age band");
+        validateBands(salaryBands, facetIndex::salaryBand, "Salary band");
+
+        return roster.query(() -> {
+            final RowBitmap byTitle = union(facetIndex.titles(), titles);
+            final RowBitmap byAge = union(facetIndex.ageBands(), ageBands);
+            final RowBitmap bySalary = union(facetIndex.salaryBands(), salaryBands);
+
+            final RowBitmap matching = intersect(byTitle, byAge, bySalary);
+            final int[] rows = matching.toArray();
+            final List<EmployeeResource> employees = new ArrayList<>(Math.min(limit, rows.length));
+            for (int i = 0; i < rows.length && i < limit; i++) {
+                employees.add(roster.employeeAt(rows[i]));
+            }
+
+            return new EmployeeFacets(
+                    rows.length,
+                    employees,
+                    counts(facetIndex.titles(), intersect(byAge, bySalary)),
+                    counts(facetIndex.ageBands(), intersect(byTitle, bySalary)),
+                    counts(facetIndex.salaryBands(), intersect(byTitle, byAge)));
+        });
+    }
+
+    /**
+     * @return the ordering named by {@code order}, asc or desc
+     */
+    public static boolean isDescending(final String order) {
+        return switch (order.toLowerCase(Locale.ROOT)) {
+            case "desc" -> true;
+            case "asc" -> false;
+            default -> throw new IllegalArgumentException("Order must be asc or desc");
+        };
+    }
+
+    private static <K> RowBitmap union(final Map<K, RowBitmap> bitmaps, final List<K> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        RowBitmap union = new RowBitmap();
+        for (K value : values) {
+            final RowBitmap bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                union = union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * @param filters bitmaps to AND, null ones are skipped
+     */
+    private RowBitmap intersect(final RowBitmap... filters) {
+        RowBitmap result = facetIndex.all();
+        for (RowBitmap filter : filters) {
+            if (filter != null) {
+                result = result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static <K> Map<K, Integer> counts(final Map<K, RowBitmap> bitmaps, final RowBitmap base) {
+        final Map<K, Integer> counts = new TreeMap<>();
+        bitmaps.forEach((value, bitmap) -> {
+            final int count = bitmap.andCardinality(base);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    private static void validateBands(final List<Integer> bands, final IntUnaryOperator band, final String name) {
+        if (bands == null) {
+            return;
+        }
+        for (int lowerBound : bands) {
+            if (band.applyAsInt(lowerBound) != lowerBound) {
+                throw new IllegalArgumentException(name + " " + lowerBound + " is not a band's lower bound");
+            }
+        }
+    }
+
+    private void validateRange(final long min, final long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Range minimum must not exceed maximum");
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeCommand;
+import com.reliaquest.api.model.EmployeeCreateStatus;
+import com.reliaquest.api.model.EmployeeResource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Write-behind queue for employee creates. Commands are validated and acknowledged with a tracking id
+ * straight away; a single flusher thread drains the queue and sends them upstream in batches.
+ *
+ * The queue is bounded, so a burst the upstream can't keep up with is rejected instead of
+ * piling up in memory. Statuses of finished creates are kept for a while for lookups, then dropped.
+ *
+ * A batch upstream rejects as invalid is retried one create at a time, so only the bad entries fail.
+ * A throttled batch is sent again after Retry-After, a few times at most. Any other failure fails the
+ * whole batch: upstream may have created some of it, and sending it again would duplicate them.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.create.async.enabled", havingValue = "true")
+public class EmployeeCreateQueue {
+
+    // Throttled batches are sent again at most this many times in total, waiting Retry-After in between
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+
+    private record PendingCreate(UUID trackingId, EmployeeCommand command) {}
+
+    private final EmployeeService employeeService;
+    private final BlockingQueue<PendingCreate> queue;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration retention;
+    private final Map<UUID, EmployeeCreateStatus> statuses = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread flusher;
+    private long lastEviction = System.nanoTime();
+
+    public EmployeeCreateQueue(
+            final EmployeeService employeeService,
+            @Value("${employee.create.async.capacity:10000}") final int capacity,
+            @Value("${employee.create.async.batch-size:100}") final int batchSize,
+            @Value("${employee.create.async.linger:50ms}") final Duration linger,
+            @Value("${employee.create.async.retention:10m}") final Duration retention) {
+        this.employeeService = employeeService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::run, "employee-create-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // Whatever is still queued gets one last attempt before shutdown
+        final var remaining = new ArrayList<PendingCreate>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            flush(remaining.subList(i, Math.min(remaining.size(), i + batchSize)));
+        }
+    }
+
+    /**
+     * Validates and queues the command
+     * @param employeeCommand the employee payload
+     * @return the status to poll
+     * @throws IllegalArgumentException if the command is invalid
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public EmployeeCreateStatus submit(final EmployeeCommand employeeCommand) {
+        employeeService.validateEmployeeCommand(employeeCommand);
+        final var status = EmployeeCreateStatus.queued(UUID.randomUUID());
+        statuses.put(status.trackingId(), status);
+        if (!queue.offer(new PendingCreate(status.trackingId(), employeeCommand))) {
+            statuses.remove(status.trackingId());
+            throw new RejectedExecutionException("Create queue is full");
+        }
+        return status;
+    }
+
+    public Optional<EmployeeCreateStatus> status(final UUID trackingId) {
+        return Optional.ofNullable(statuses.get(trackingId));
+    }
+
+    /**
+     * @return number of creates waiting to be flushed
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    private void run() {
+        final var batch = new ArrayList<PendingCreate>(batchSize);
+        while (running) {
+            try {
+                evictExpired();
+                final var first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Give a burst a moment to fill the batch before going upstream
+                final long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    final var next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } catch (RuntimeException e) {
+                // Keep the flusher alive; the batch is reported as failed
+                log.error("Unexpected error flushing {} creates", batch.size(), e);
+                batch.forEach(pending -> failed(pending.trackingId(), e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(final List<PendingCreate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<EmployeeCommand> commands = batch.stream().map(PendingCreate::command).toList();
+        for (int attempt = 1; ; attempt++) {
+            final UpstreamResult<List<EmployeeResource>> result = employeeService.createEmployees(commands);
+            if (result instanceof UpstreamResult.Found<List<EmployeeResource>> found) {
+                for (int i = 0; i < batch.size(); i++) {
+                    created(batch.get(i).trackingId(), found.value().get(i));
+                }
+                return;
+            }
+            if (result instanceof UpstreamResult.Rejected<List<EmployeeResource>>) {
+                // Nothing was created; a single bad entry shouldn't fail the rest of the batch
+                log.warn(
+                        "Batch create of {} employees rejected, creating one by one: {}",
+                        batch.size(),
+                        result.describe());
+                batch.forEach(this::createOne);
+                return;
+            }
+            if (result instanceof UpstreamResult.Throttled<List<EmployeeResource>> throttled
+                    && attempt < MAX_ATTEMPTS
+                    && backOff(throttled.retryAfter(), attempt)) {
+                log.warn(
+                        "Batch create of {} employees throttled, retry {} of {}",
+                        batch.size(),
+                        attempt,
+                        MAX_ATTEMPTS - 1);
+                continue;
+            }
+            // Upstream may have created part of the batch, so sending it again could create employees twice
+            log.warn("Batch create of {} employees failed: {}", batch.size(), result.describe());
+            batch.forEach(pending -> failed(pending.trackingId(), result.describe()));
+            return;
+        }
+    }
+
+    private void createOne(final PendingCreate pending) {
+        try {
+            final UpstreamResult<EmployeeResource> result = employeeService.createEmployee(pending.command());
+            if (result instanceof UpstreamResult.Found<EmployeeResource> found) {
+                created(pending.trackingId(), found.value());
+            } else {
+                failed(pending.trackingId(), result.describe());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Create {} failed: {}", pending.trackingId(), e.getMessage());
+            failed(pending.trackingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Waits before resending a throttled batch; not while shutting down
+     * @return false if the batch should not be retried
+     */
+    private boolean backOff(final Duration retryAfter, final int attempt) {
+        if (!running) {
+            return false;
+        }
+        final long millis =
+                Math.min(MAX_BACKOFF.toMillis(), Math.max(linger.toMillis(), retryAfter.toMillis()) * attempt);
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void created(final UUID trackingId, final EmployeeResource employee) {
+        statuses.computeIfPresent(trackingId, (id, status) -> status.isDone() ? status : status.created(employee));
+    }
+
+    /**
+     * Marks a create failed unless it already finished
+     */
+    private void failed(final UUID trackingId, final String reason) {
+        statuses.computeIfPresent(trackingId, (id, status) -> status.isDone() ? status : status.failed(reason));
+    }
+
+    private void evictExpired() {
+        if (System.nanoTime() - lastEviction < TimeUnit.SECONDS.toNanos(1)) {
+            return;
+        }
+        lastEviction = System.nanoTime();
+        final var cutoff = Instant.now().minus(retention);
+        statuses.values()
+                .removeIf(status -> status.isDone() && status.updatedAt().isBefore(cutoff));
+    }
+}
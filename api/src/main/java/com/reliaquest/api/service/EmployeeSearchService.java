@@ -0,0 +1,101 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.index.BkTree;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.FuzzyNameIndex;
+import com.reliaquest.api.roster.PrefixNameIndex;
+import com.reliaquest.common.Names;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class for name searches answered from indexes over the cached roster.
+ * An unavailable roster is passed on as an {@link UpstreamResult}; only invalid input throws.
+ */
+@Service
+@Slf4j
+public class EmployeeSearchService {
+
+    // Past this a BK-tree search visits most of the tree anyway
+    static final int MAX_DISTANCE = 3;
+    static final int MAX_RESULTS = 100;
+
+    private final EmployeeRoster roster;
+    private final FuzzyNameIndex fuzzyNameIndex;
+    private final PrefixNameIndex prefixNameIndex;
+
+    public EmployeeSearchService(
+            final EmployeeRoster roster, final FuzzyNameIndex fuzzyNameIndex, final PrefixNameIndex prefixNameIndex) {
+        this.roster = roster;
+        this.fuzzyNameIndex = fuzzyNameIndex;
+        this.prefixNameIndex = prefixNameIndex;
+    }
+
+    /**
+     * Gets the employees whose normalized name is within an edit distance of the given one
+     * @param name name to search for, possibly misspelled
+     * @param maxDistance largest number of inserted, deleted or substituted characters
+     * @param limit most employees to return
+     * @return matching employees, closest names first
+     */
+    public UpstreamResult<List<EmployeeResource>> fuzzySearch(
+            final String name, final int maxDistance, final int limit) {
+        log.info("Fuzzy searching employees by name: {} within {}", name, maxDistance);
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("Distance must be between 0 and " + MAX_DISTANCE);
+        }
+        validateLimit(limit);
+
+        final String query = Names.normalize(name);
+        if (query.isEmpty()) {
+            return UpstreamResult.found(List.of());
+        }
+        return roster.query(() -> {
+            final List<EmployeeResource> employees = new ArrayList<>();
+            for (BkTree.Match match : fuzzyNameIndex.search(query, maxDistance)) {
+                for (int row : match.rows()) {
+                    if (employees.size() == limit) {
+                        return employees;
+                    }
+                    employees.add(roster.employeeAt(row));
+                }
+            }
+            return employees;
+        });
+    }
+
+    /**
+     * Completes a name prefix for type-ahead
+     * @param prefix start of a name or of any word in it
+     * @param limit most names to return, at most {@code employee.autocomplete.max-results}
+     * @return names of the matching employees, ranked by {@code employee.autocomplete.rank-by}
+     */
+    public UpstreamResult<List<String>> autocomplete(final String prefix, final int limit) {
+        log.debug("Completing employee name prefix: {}", prefix);
+        if (limit < 1 || limit > prefixNameIndex.maxResults()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + prefixNameIndex.maxResults());
+        }
+
+        final String query = Names.normalize(prefix);
+        if (query.isEmpty()) {
+            return UpstreamResult.found(List.of());
+        }
+        return roster.query(() -> {
+            final List<String> names = new ArrayList<>(limit);
+            for (int row : prefixNameIndex.complete(query, limit)) {
+                names.add(roster.employeeAt(row).getName());
+            }
+            return names;
+        });
+    }
+
+    private void validateLimit(final int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RESULTS);
+        }
+    }
+}
@@ -1,245 +1,221 @@
 package com.reliaquest.api.service;
 
-import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.HedgingPolicy;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.index.TopK;
 import com.reliaquest.api.model.EmployeeCommand;
 import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import com.reliaquest.api.roster.EmployeeCreatedEvent;
+import com.reliaquest.api.roster.EmployeeDeletedEvent;
+import com.reliaquest.api.roster.EmployeeIdFilter;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.common.Names;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
 /**
- * Service class to manage interactions with Mock Server API
+ * Service class to manage interactions with Mock Server API.
+ * Upstream outcomes are passed on as {@link UpstreamResult}s; only invalid input throws.
+ * Whole-roster reads are answered from the {@link EmployeeRoster}, so they match the version
+ * the HTTP validators are derived from, and lag upstream by at most about {@code employee.roster.ttl};
+ * name search is pushed down to the mock server.
  */
 @Service
 @Slf4j
 public class EmployeeService {
 
-    private final RestTemplate restTemplate;
-    private final String BASE_URL = "http://localhost:8112/api/v1/employee";
-
-    public EmployeeService(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    private final EmployeeGateway gateway;
+    private final EmployeeRoster roster;
+    private final HedgingPolicy hedging;
+    private final EmployeeIdFilter idFilter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EmployeeService(
+            EmployeeGateway gateway,
+            EmployeeRoster roster,
+            HedgingPolicy hedging,
+            EmployeeIdFilter idFilter,
+            ApplicationEventPublisher eventPublisher) {
+        this.gateway = gateway;
+        this.roster = roster;
+        this.hedging = hedging;
+        this.idFilter = idFilter;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Gets all the employees
      * @return a list of all the employees
      */
-    public List<EmployeeResource> getAllEmployees() {
-        try {
-            log.info("Fetching all employees from external API");
-
-            ResponseEntity<ApiResponse<EmployeeResource[]>> response =
-                    restTemplate.exchange(BASE_URL, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ApiResponse<EmployeeResource[]> apiResponse = response.getBody();
-
-                if (apiResponse.isSuccessful() && apiResponse.getData() != null) {
-                    return Arrays.asList(apiResponse.getData());
-                } else {
-                    log.warn("API returned error: {}", apiResponse.getError());
-                    return Collections.emptyList();
-                }
-            } else {
-                log.warn("Failed to fetch employees, HTTP status: {}", response.getStatusCode());
-                return Collections.emptyList();
-            }
-        } catch (Exception e) {
-            log.error("Error fetching all employees from external API: ", e);
-            throw new RuntimeException("Failed to fetch employees", e);
-        }
+    public UpstreamResult<List<EmployeeResource>> getAllEmployees() {
+        log.info("Fetching all employees from cached roster");
+        return roster.snapshot();
     }
 
     /**
-     * Gets a list of employees whose names partially match the provided searchString
+     * Gets a list of employees whose names partially match the provided searchString. The search goes
+     * to the mock server's name index rather than the cached roster, so it never lags behind it.
      * @param searchString names to search for - string can be a substring of the name
      * @return a list of matching employees with name that matches search string
      */
-    public List<EmployeeResource> searchEmployeesByName(final String searchString) {
-        try {
-            log.info("Searching employees by name: {}", searchString);
-
-            if (searchString == null || searchString.trim().isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            final List<EmployeeResource> allEmployees = getAllEmployees();
+    public UpstreamResult<List<EmployeeResource>> searchEmployeesByName(final String searchString) {
+        log.info("Searching employees by name: {}", searchString);
 
-            return allEmployees.stream()
-                    .filter(employee -> {
-                        String name = normalize(employee.getName());
-                        String search = normalize(searchString);
-                        return !name.isEmpty() && name.contains(search);
-                    })
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error searching employees by name: {}", searchString, e);
-            throw new RuntimeException("Failed to search employees by name", e);
+        if (searchString == null || searchString.trim().isEmpty()) {
+            return UpstreamResult.found(Collections.emptyList());
         }
+
+        // The mock server applies the same normalization, so only matches come back over the wire.
+        // Filtering again is cheap on a match list and keeps results right against a server
+        // that ignores the parameter.
+        final String search = Names.normalize(searchString);
+        return gateway.searchEmployeesByName(searchString).map(matches -> matches.stream()
+                .filter(employee -> {
+                    String name = Names.normalize(employee.getName());
+                    return !name.isEmpty() && name.contains(search);
+                })
+                .collect(Collectors.toList()));
     }
 
     /**
      * Gets the employee with the provided id if it exists
      * @param id id of the employee
-     * @return optional of employee
+     * @return the employee, not found without going upstream for a blank or malformed id, or one the
+     *         {@link EmployeeIdFilter} knows is missing
+     * @see HedgingPolicy
      */
-    public Optional<EmployeeResource> getEmployeeById(final String id) {
-        try {
-            log.info("Fetching employee by ID: {}", id);
-
-            if (id == null || id.trim().isEmpty()) {
-                return Optional.empty();
-            }
+    public UpstreamResult<EmployeeResource> getEmployeeById(final String id) {
+        log.info("Fetching employee by ID: {}", id);
 
-            ResponseEntity<ApiResponse<EmployeeResource>> response = restTemplate.exchange(
-                    BASE_URL + "/" + id.trim(), HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ApiResponse<EmployeeResource> apiResponse = response.getBody();
-
-                if (apiResponse.isSuccessful() && apiResponse.getData() != null) {
-                    return Optional.of(apiResponse.getData());
-                } else {
-                    log.warn("API returned error for employee ID {}: {}", id, apiResponse.getError());
-                    return Optional.empty();
-                }
-            } else {
-                log.warn("Employee not found with ID: {}, HTTP status: {}", id, response.getStatusCode());
-                return Optional.empty();
-            }
-        } catch (HttpClientErrorException.NotFound e) {
-            log.info("Employee not found with ID: {}", id);
-            return Optional.empty();
-        } catch (Exception e) {
-            log.error("Error fetching employee by ID: {}", id, e);
-            throw new RuntimeException("Failed to fetch employee by ID", e);
+        final UUID uuid = parseId(id);
+        if (uuid == null) {
+            return UpstreamResult.notFound();
+        }
+        if (idFilter.isKnownMissing(uuid)) {
+            log.debug("Employee {} known to be missing, not asking upstream", uuid);
+            return UpstreamResult.notFound();
         }
+        final UpstreamResult<EmployeeResource> result = hedging.call(() -> gateway.findEmployeeById(uuid.toString()));
+        if (result instanceof UpstreamResult.NotFound<EmployeeResource>) {
+            idFilter.recordMissing(uuid);
+        }
+        return result;
     }
 
     /**
      * Gets the highest salary if there is one
-     * @return optional of highest salary
+     * @return highest salary, not found when nobody has a salary
      */
-    public Optional<Integer> getHighestSalary() {
-        try {
-            log.info("Calculating highest salary of employees");
-
-            final List<EmployeeResource> allEmployees = getAllEmployees();
-
-            return allEmployees.stream()
-                    .map(EmployeeResource::getSalary)
-                    .filter(Objects::nonNull)
-                    .max(Integer::compareTo);
-        } catch (Exception e) {
-            log.error("Error calculating highest salary: ", e);
-            throw new RuntimeException("Failed to calculate highest salary", e);
-        }
+    public UpstreamResult<Integer> getHighestSalary() {
+        log.info("Calculating highest salary of employees");
+
+        return getAllEmployees().flatMap(allEmployees -> allEmployees.stream()
+                .map(EmployeeResource::getSalary)
+                .filter(Objects::nonNull)
+                .max(Integer::compareTo)
+                .map(UpstreamResult::found)
+                .orElseGet(UpstreamResult::notFound));
     }
 
     /**
      * Gets the top ten highest earning employees
      * @return a list of max 10 employees
      */
-    public List<String> getTopTenHighestEarningEmployeeNames() {
-        try {
-            log.info("Fetching top ten highest earning employee names");
-
-            final List<EmployeeResource> allEmployees = getAllEmployees();
+    public UpstreamResult<List<String>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Fetching top ten highest earning employee names");
+
+        return getAllEmployees()
+                .map(allEmployees -> TopK.select(
+                        allEmployees.stream()
+                                .filter(employee -> employee.getSalary() != null
+                                        && employee.getName() != null
+                                        && !employee.getName().trim().isEmpty())
+                                .collect(Collectors.toList()),
+                        Comparator.comparing(EmployeeResource::getSalary).reversed(),
+                        10))
+                .map(top -> top.stream().map(EmployeeResource::getName).collect(Collectors.toList()));
+    }
 
-            return allEmployees.stream()
-                    .filter(employee -> employee.getSalary() != null
-                            && employee.getName() != null
-                            && !employee.getName().trim().isEmpty())
-                    .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
-                    .limit(10)
-                    .map(EmployeeResource::getName)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error fetching top ten highest earning employees: ", e);
-            throw new RuntimeException("Failed to fetch top earning employees", e);
-        }
+    /**
+     * Gets salary statistics, overall and per title, maintained incrementally by the mock server
+     * @return the statistics report
+     */
+    public UpstreamResult<SalaryStatisticsReport> getSalaryStatistics() {
+        log.info("Fetching salary statistics from external API");
+        return gateway.salaryStatistics();
     }
 
     /**
      * Creates an EmployeeResource from the provided EmployeeCommand payload
      * @param employeeCommand payload with employee details
      * @return created Employee
+     * @throws IllegalArgumentException if the payload is invalid
      */
-    public EmployeeResource createEmployee(final EmployeeCommand employeeCommand) {
-        try {
-            log.info("Creating new employee: {}", employeeCommand);
-
-            if (employeeCommand == null) {
-                throw new IllegalArgumentException("Employee input cannot be null");
-            }
-
-            // Validate input
-            validateEmployeeCommand(employeeCommand);
+    public UpstreamResult<EmployeeResource> createEmployee(final EmployeeCommand employeeCommand) {
+        log.info("Creating new employee: {}", employeeCommand);
 
-            // Convert EmployeeInput to the format expected by the external API
-            final Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("name", employeeCommand.getName().trim());
-            requestBody.put("salary", employeeCommand.getSalary());
-            requestBody.put("age", employeeCommand.getAge());
-            requestBody.put("title", employeeCommand.getTitle());
+        if (employeeCommand == null) {
+            throw new IllegalArgumentException("Employee input cannot be null");
+        }
 
-            ResponseEntity<ApiResponse<EmployeeResource>> response = restTemplate.exchange(
-                    BASE_URL, HttpMethod.POST, new HttpEntity<>(requestBody), new ParameterizedTypeReference<>() {});
+        // Validate input
+        validateEmployeeCommand(employeeCommand);
 
-            // Should verify with mock service what the expected response code is
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ApiResponse<EmployeeResource> apiResponse = response.getBody();
+        return gateway.createEmployee(toRequestBody(employeeCommand)).ifFound(employee -> {
+            log.info("Employee created successfully with ID: {}", employee.getId());
+            eventPublisher.publishEvent(new EmployeeCreatedEvent(employee));
+        });
+    }
 
-                if (apiResponse.isSuccessful() && apiResponse.getData() != null) {
-                    log.info(
-                            "Employee created successfully with ID: {}",
-                            apiResponse.getData().getId());
-                    return apiResponse.getData();
-                } else {
-                    log.error("API returned error when creating employee: {}", apiResponse.getError());
-                    throw new RuntimeException("Failed to create employee: " + apiResponse.getError());
-                }
-            } else {
-                log.error("Failed to create employee, HTTP status: {}", response.getStatusCode());
-                throw new RuntimeException("Failed to create employee");
-            }
-        } catch (Exception e) {
-            log.error("Error creating employee: ", e);
-            throw new RuntimeException("Failed to create employee", e);
-        }
+    /**
+     * Creates several employees with a single upstream call
+     * @param employeeCommands payloads with employee details
+     * @return created employees, in the same order as the payloads
+     * @throws IllegalArgumentException if any payload is invalid
+     */
+    public UpstreamResult<List<EmployeeResource>> createEmployees(final List<EmployeeCommand> employeeCommands) {
+        log.info("Creating batch of {} employees", employeeCommands.size());
+
+        employeeCommands.forEach(this::validateEmployeeCommand);
+        final List<Map<String, Object>> requestBodies =
+                employeeCommands.stream().map(this::toRequestBody).collect(Collectors.toList());
+
+        return gateway.createEmployees(requestBodies)
+                .flatMap(created -> created.size() == employeeCommands.size()
+                        ? UpstreamResult.found(created)
+                        : UpstreamResult.<List<EmployeeResource>>failed(
+                                "Upstream created " + created.size() + " of " + employeeCommands.size()))
+                .ifFound(created -> {
+                    log.info("Batch of {} employees created successfully", created.size());
+                    created.forEach(employee -> eventPublisher.publishEvent(new EmployeeCreatedEvent(employee)));
+                });
     }
 
     /**
      * Deletes the employee with the provided id
      * @param id id of the employee to delete
-     * @return an empty optional if no delete happened, otherwise optional with deleted employee name
+     * @return the deleted employee's name, not found if no delete happened
+     * @throws IllegalArgumentException if the id is blank
      */
-    public Optional<String> deleteEmployeeById(final String id) {
+    public UpstreamResult<String> deleteEmployeeById(final String id) {
         log.info("Deleting employee by ID: {}", id);
 
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Employee ID cannot be null or empty");
         }
 
-        try {
-            return getEmployeeById(id.trim()).map(employee -> {
-                restTemplate.delete(BASE_URL + "/" + id.trim());
-                log.info("Employee deleted successfully with ID: {}", id);
-                return employee.getName();
-            });
-
-        } catch (HttpClientErrorException.NotFound e) {
-            log.warn("Employee not found for deletion with ID: {}", id);
-            return Optional.empty();
-        }
+        // Single round trip: the mock server removes by id and hands back the removed record
+        return gateway.deleteEmployeeById(id.trim())
+                .ifFound(employee -> {
+                    log.info("Employee deleted successfully with ID: {}", id);
+                    eventPublisher.publishEvent(new EmployeeDeletedEvent(employee.getId()));
+                })
+                .map(EmployeeResource::getName);
     }
 
     /**
@@ -247,7 +223,7 @@ public class EmployeeService {
      * Validates the payload
      * @param employeeCommand the employee payload
      */
-    private void validateEmployeeCommand(final EmployeeCommand employeeCommand) {
+    void validateEmployeeCommand(final EmployeeCommand employeeCommand) {
         if (employeeCommand.getName() == null
                 || employeeCommand.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Employee name is required");
@@ -267,14 +243,31 @@ public class EmployeeService {
     }
 
     /**
-     * Strip white space and punctuation
-     * @param input string to normalize
-     * @return normalized string
+     * Mock server ids are UUIDs, anything else can't match one
+     * @return the id, null if it's blank or malformed
+     */
+    private static UUID parseId(final String id) {
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts the payload to the format expected by the external API
+     * @param employeeCommand the employee payload
+     * @return request body
      */
-    private String normalize(String input) {
-        if (input == null) return "";
-        return input.toLowerCase()
-                .replaceAll("\\s+", "") // remove all spaces/tabs
-                .replaceAll("[^a-z0-9]", ""); // strip punctuation, keep only letters & digits
+    private Map<String, Object> toRequestBody(final EmployeeCommand employeeCommand) {
+        final Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("name", employeeCommand.getName().trim());
+        requestBody.put("salary", employeeCommand.getSalary());
+        requestBody.put("age", employeeCommand.getAge());
+        requestBody.put("title", employeeCommand.getTitle());
+        return requestBody;
     }
 }
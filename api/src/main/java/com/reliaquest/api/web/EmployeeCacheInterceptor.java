@@ -0,0 +1,75 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.roster.EmployeeRoster;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * HTTP validators for the endpoints answered from the {@link EmployeeRoster}. The ETag is the
+ * roster version, so a client revalidating with {@code If-None-Match} gets a {@code 304} without
+ * the handler running as long as the roster hasn't changed. Answers from a roster past its TTL
+ * (restored from a snapshot, or upstream not answering refreshes) are marked with {@value #STALE_HEADER}.
+ */
+public class EmployeeCacheInterceptor implements HandlerInterceptor {
+
+    static final String STALE_HEADER = "X-Roster-Stale";
+
+    // Versions restart at zero with the JVM, so tag them with the instance to keep old ETags from matching
+    private static final String INSTANCE = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    private final EmployeeRoster roster;
+    private final String cacheControl;
+
+    public EmployeeCacheInterceptor(final EmployeeRoster roster, final Duration maxAge) {
+        this.roster = roster;
+        this.cacheControl = cacheControl(maxAge).getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        // Load first so the validators describe what the handler will read (a stale roster is
+        // refreshed in the background); without a roster there is nothing to validate against
+        // and the handler reports the upstream error
+        if (!roster.ensureFresh().isFound()) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (roster.isStale()) {
+            response.setHeader(STALE_HEADER, "true");
+        }
+        final ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        final String etag = etag(roster.version());
+        final Instant lastModified = roster.lastModified();
+        final boolean notModified = lastModified.equals(Instant.EPOCH)
+                ? webRequest.checkNotModified(etag)
+                : webRequest.checkNotModified(etag, lastModified.toEpochMilli());
+        return !notModified;
+    }
+
+    static String etag(final long version) {
+        return "W/\"" + INSTANCE + "-" + version + "\"";
+    }
+
+    static CacheControl cacheControl(final Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        return CacheControl.maxAge(maxAge.toSeconds(), TimeUnit.SECONDS)
+                .cachePrivate()
+                .mustRevalidate();
+    }
+}
@@ -0,0 +1,137 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.RestTemplateConfig;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.roster.EmployeeRoster;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Serves {@code GET api/employees} from the encoded response, kept as JSON and gzipped JSON byte
+ * arrays for the current roster version. The list is serialized (and compressed) once per version
+ * instead of once per request; any change to the roster bumps its version, which replaces them.
+ * The arrays are on heap and copied into the servlet's output buffer on write: a direct buffer
+ * would be copied back through a heap array by the servlet output stream anyway.
+ *
+ * Runs after {@link EmployeeCacheInterceptor}, so validators and 304s are already handled.
+ * Requests that don't accept JSON fall through to the controller.
+ */
+@Slf4j
+@Component
+public class EmployeeListResponseCache implements HandlerInterceptor {
+
+    record Encoded(long version, byte[] json, byte[] gzip) {}
+
+    private final EmployeeRoster roster;
+    private final ObjectMapper objectMapper;
+
+    private volatile Encoded encoded;
+
+    public EmployeeListResponseCache(final EmployeeRoster roster, final ObjectMapper objectMapper) {
+        this.roster = roster;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler)
+            throws IOException {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            return true;
+        }
+        final Encoded current = current();
+        if (current == null) {
+            // No roster, the controller reports the upstream error
+            return true;
+        }
+
+        final boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        final byte[] body = gzip ? current.gzip() : current.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+        return false;
+    }
+
+    /**
+     * @return the encoded roster for the current version, null if there is no roster
+     */
+    Encoded current() {
+        final Encoded cached = encoded;
+        if (cached != null && cached.version() == roster.version()) {
+            return cached;
+        }
+        synchronized (this) {
+            // Only one thread encodes a new version
+            if (encoded != null && encoded.version() == roster.version()) {
+                return encoded;
+            }
+            final UpstreamResult<Map.Entry<Long, List<EmployeeResource>>> snapshot =
+                    roster.query(() -> Map.entry(roster.version(), roster.employeesInRowOrder()));
+            if (!(snapshot instanceof UpstreamResult.Found<Map.Entry<Long, List<EmployeeResource>>> found)) {
+                return null;
+            }
+            encoded = encode(found.value().getKey(), found.value().getValue());
+            log.debug("Encoded employee list for roster version {}", encoded.version());
+            return encoded;
+        }
+    }
+
+    private Encoded encode(final long version, final List<EmployeeResource> employees) {
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(employees);
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new Encoded(version, json, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean acceptsJson(final String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            final List<MediaType> types = MediaType.parseMediaTypes(accept);
+            return types.stream().noneMatch(RestTemplateConfig.APPLICATION_SMILE::equalsTypeAndSubtype)
+                    && types.stream().anyMatch(MediaType.APPLICATION_JSON::isCompatibleWith);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+}
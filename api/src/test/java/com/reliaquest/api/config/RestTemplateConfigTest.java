@@ -0,0 +1,134 @@
+package com.reliaquest.api.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeResource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.resources.LoopResources;
+
+class RestTemplateConfigTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    @Test
+    void smileWireFormat_prefersSmileAndDecodesBinaryBody() throws Exception {
+        final RestTemplate restTemplate = new RestTemplateConfig().restTemplate("smile", "");
+        final MockRestServiceServer server =
+                MockRestServiceServer.bindTo(restTemplate).build();
+        final EmployeeResource emp =
+                new EmployeeResource(UUID.randomUUID(), "Alice", 100000, 31, "Dev", "alice@mail.com");
+        final byte[] body = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(Map.of("data", List.of(emp), "status", "Successfully processed request."));
+
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, startsWith("application/x-jackson-smile")))
+                .andRespond(withSuccess(body, RestTemplateConfig.APPLICATION_SMILE));
+
+        final ResponseEntity<ApiResponse<EmployeeResource[]>> response =
+                restTemplate.exchange(URL, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isSuccessful()).isTrue();
+        assertThat(response.getBody().getData()).containsExactly(emp);
+        server.verify();
+    }
+
+    @Test
+    void jsonWireFormat_doesNotAskForSmile() {
+        final RestTemplate restTemplate = new RestTemplateConfig().restTemplate("json", "");
+        final MockRestServiceServer server =
+                MockRestServiceServer.bindTo(restTemplate).build();
+
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, not(startsWith("application/x-jackson-smile"))))
+                .andRespond(withSuccess(
+                        "{\"data\":[],\"status\":\"Successfully processed request.\"}", MediaType.APPLICATION_JSON));
+
+        final ResponseEntity<ApiResponse<EmployeeResource[]>> response =
+                restTemplate.exchange(URL, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getData()).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void unixSocketPath_sendsRequestsOverSocket(@TempDir final Path dir) throws Exception {
+        assumeTrue(LoopResources.hasNativeSupport(), "Netty native transport unavailable");
+        final Path socket = dir.resolve("mock.sock");
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            final CompletableFuture<String> requestLine = CompletableFuture.supplyAsync(
+                    () -> answerOnce(server, "{\"data\":[],\"status\":\"Successfully processed request.\"}"));
+            final RestTemplate restTemplate = new RestTemplateConfig().restTemplate("json", socket.toString());
+
+            final ResponseEntity<ApiResponse<EmployeeResource[]>> response =
+                    restTemplate.exchange(URL, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getData()).isEmpty();
+            assertThat(requestLine.get(5, TimeUnit.SECONDS)).isEqualTo("GET /api/v1/employee HTTP/1.1");
+        }
+    }
+
+    /**
+     * Accepts one connection, answers it with the JSON body and hands back the request line
+     */
+    private static String answerOnce(final ServerSocketChannel server, final String json) {
+        try (SocketChannel channel = server.accept()) {
+            final BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), UTF_8));
+            final String requestLine = reader.readLine();
+            String header;
+            do {
+                header = reader.readLine();
+            } while (header != null && !header.isEmpty());
+
+            final byte[] body = json.getBytes(UTF_8);
+            final OutputStream out = Channels.newOutputStream(channel);
+            out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + body.length
+                            + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(UTF_8));
+            out.write(body);
+            out.flush();
+            return requestLine;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -69,7 +69,7 @@ public class EmployeeControllerImplIntegrationTest {
     }
 
     @Test
-    void testCreateEmployee_BadCommand_ThrowException() {
+    void testCreateEmployee_BadCommand_BadRequest() {
         final EmployeeCommand newEmployee = new EmployeeCommand();
         newEmployee.setName("");
         newEmployee.setSalary(50000);
@@ -79,7 +79,7 @@ public class EmployeeControllerImplIntegrationTest {
         // Create employee
         final ResponseEntity<EmployeeResource> createResponse =
                 restTemplate.postForEntity(baseUrl, newEmployee, EmployeeResource.class);
-        assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
@@ -100,11 +100,12 @@ public class EmployeeControllerImplIntegrationTest {
                 restTemplate.exchange(baseUrl + "/" + id, HttpMethod.DELETE, null, String.class);
         assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
 
+        assertThat(deleteResponse.getBody()).isEqualTo("Jane Smith");
+
         // Confirm deletion
-        // External service doesn't seem to delete? Debug it
-        //        ResponseEntity<EmployeeResource> getResponse =
-        //                restTemplate.getForEntity(baseUrl + "/" + id, EmployeeResource.class);
-        //        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        final ResponseEntity<EmployeeResource> getResponse =
+                restTemplate.getForEntity(baseUrl + "/" + id, EmployeeResource.class);
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
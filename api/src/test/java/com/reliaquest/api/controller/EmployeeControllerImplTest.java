@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.controller.impl.EmployeeControllerImpl;
+import com.reliaquest.api.gateway.UpstreamResult;
 import com.reliaquest.api.model.EmployeeCommand;
 import com.reliaquest.api.model.EmployeeResource;
 import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
 import java.util.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -44,7 +47,7 @@ class EmployeeControllerImplTest {
                 new EmployeeResource(id1, "Alice", 100000, 1000, "Dev", "alice@mail.com"),
                 new EmployeeResource(id2, "Bob", 10000, 2000, "sales", "bob@temp.com"));
 
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        when(employeeService.getAllEmployees()).thenReturn(UpstreamResult.found(employees));
 
         ResponseEntity<List<EmployeeResource>> response = employeeController.getAllEmployees();
 
@@ -69,7 +72,8 @@ class EmployeeControllerImplTest {
         final String title = "Sales";
         final String email = "alice@cool.com";
         when(employeeService.searchEmployeesByName("Ali"))
-                .thenReturn(Collections.singletonList(new EmployeeResource(id1, name, salary, 31, title, email)));
+                .thenReturn(UpstreamResult.found(
+                        Collections.singletonList(new EmployeeResource(id1, name, salary, 31, title, email))));
 
         ResponseEntity<List<EmployeeResource>> response = employeeController.getEmployeesByNameSearch("Ali");
 
@@ -84,7 +88,7 @@ class EmployeeControllerImplTest {
     @Test
     void getEmployeeById_found() {
         EmployeeResource emp = new EmployeeResource(id1, "Alice", 99999, 31, "Dev", "alice@fake.com");
-        when(employeeService.getEmployeeById("1")).thenReturn(Optional.of(emp));
+        when(employeeService.getEmployeeById("1")).thenReturn(UpstreamResult.found(emp));
 
         ResponseEntity<EmployeeResource> response = employeeController.getEmployeeById("1");
 
@@ -95,16 +99,44 @@ class EmployeeControllerImplTest {
 
     @Test
     void getEmployeeById_notFound() {
-        when(employeeService.getEmployeeById("99")).thenReturn(Optional.empty());
+        when(employeeService.getEmployeeById("99")).thenReturn(UpstreamResult.notFound());
 
         ResponseEntity<EmployeeResource> response = employeeController.getEmployeeById("99");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    void getEmployeeById_throttled() {
+        when(employeeService.getEmployeeById("1")).thenReturn(UpstreamResult.throttled(Duration.ofSeconds(30)));
+
+        ResponseEntity<EmployeeResource> response = employeeController.getEmployeeById("1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+    }
+
+    @Test
+    void getEmployeeById_upstreamFailed() {
+        when(employeeService.getEmployeeById("1")).thenReturn(UpstreamResult.failed("Upstream answered 500"));
+
+        ResponseEntity<EmployeeResource> response = employeeController.getEmployeeById("1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void deleteEmployeeById_upstreamRejected() {
+        when(employeeService.deleteEmployeeById("1")).thenReturn(UpstreamResult.rejected("Upstream answered 400"));
+
+        ResponseEntity<String> response = employeeController.deleteEmployeeById("1");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void getHighestSalary_success() {
-        when(employeeService.getHighestSalary()).thenReturn(Optional.of(5000));
+        when(employeeService.getHighestSalary()).thenReturn(UpstreamResult.found(5000));
 
         ResponseEntity<Integer> response = employeeController.getHighestSalaryOfEmployees();
 
@@ -114,7 +146,7 @@ class EmployeeControllerImplTest {
 
     @Test
     void getHighestSalary_notFound() {
-        when(employeeService.getHighestSalary()).thenReturn(Optional.empty());
+        when(employeeService.getHighestSalary()).thenReturn(UpstreamResult.notFound());
 
         ResponseEntity<Integer> response = employeeController.getHighestSalaryOfEmployees();
 
@@ -123,7 +155,8 @@ class EmployeeControllerImplTest {
 
     @Test
     void getTopTenHighestEarningEmployeeNames_success() {
-        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(Arrays.asList("Alice", "Bob"));
+        when(employeeService.getTopTenHighestEarningEmployeeNames())
+                .thenReturn(UpstreamResult.found(Arrays.asList("Alice", "Bob")));
 
         ResponseEntity<List<String>> response = employeeController.getTopTenHighestEarningEmployeeNames();
 
@@ -140,7 +173,7 @@ class EmployeeControllerImplTest {
         EmployeeCommand cmd = new EmployeeCommand(charlie, salary, age, title);
         EmployeeResource resource = new EmployeeResource(id1, charlie, salary, age, title, "charlie@fun.com");
 
-        when(employeeService.createEmployee(cmd)).thenReturn(resource);
+        when(employeeService.createEmployee(cmd)).thenReturn(UpstreamResult.found(resource));
 
         ResponseEntity<EmployeeResource> response = employeeController.createEmployee(cmd);
 
@@ -165,7 +198,7 @@ class EmployeeControllerImplTest {
 
     @Test
     void deleteEmployeeById_success() {
-        when(employeeService.deleteEmployeeById("1")).thenReturn(Optional.of("Alice"));
+        when(employeeService.deleteEmployeeById("1")).thenReturn(UpstreamResult.found("Alice"));
 
         ResponseEntity<String> response = employeeController.deleteEmployeeById("1");
 
@@ -175,7 +208,7 @@ class EmployeeControllerImplTest {
 
     @Test
     void deleteEmployeeById_notFound() {
-        when(employeeService.deleteEmployeeById("99")).thenReturn(Optional.empty());
+        when(employeeService.deleteEmployeeById("99")).thenReturn(UpstreamResult.notFound());
 
         ResponseEntity<String> response = employeeController.deleteEmployeeById("99");
 
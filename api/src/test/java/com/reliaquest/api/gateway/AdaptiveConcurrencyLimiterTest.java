@@ -0,0 +1,90 @@
+package com.reliaquest.api.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void atLimit_shedsImmediately() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(true, 2, 1, 10, Duration.ZERO);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(RTT, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void disabled_neverSheds() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(false, 1, 1, 1, Duration.ZERO);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void dropped_backsOffMultiplicatively() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(true, 20, 1, 100, Duration.ZERO);
+
+        limiter.tryAcquire();
+        limiter.release(RTT, true);
+
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void steadyRttAtSaturation_grows() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(true, 10, 1, 100, Duration.ZERO);
+
+        for (int round = 0; round < 20; round++) {
+            saturate(limiter, RTT);
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    void risingRtt_shrinks() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(true, 50, 1, 100, Duration.ZERO);
+        for (int round = 0; round < 5; round++) {
+            saturate(limiter, RTT);
+        }
+        final int before = limiter.limit();
+
+        for (int round = 0; round < 5; round++) {
+            saturate(limiter, RTT * 4);
+        }
+
+        assertThat(limiter.limit()).isLessThan(before);
+    }
+
+    @Test
+    void belowHalfUtilization_limitUnchanged() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(true, 20, 1, 100, Duration.ZERO);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(RTT, false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    private static void saturate(final AdaptiveConcurrencyLimiter limiter, final long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
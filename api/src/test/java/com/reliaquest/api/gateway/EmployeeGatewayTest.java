@@ -0,0 +1,109 @@
+package com.reliaquest.api.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.reliaquest.api.config.RestTemplateConfig;
+import com.reliaquest.api.model.EmployeeResource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeGatewayTest {
+
+    private MockRestServiceServer server;
+    private AdaptiveConcurrencyLimiter limiter;
+    private EmployeeGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        final RestTemplate restTemplate = new RestTemplateConfig().restTemplate("json", "");
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        limiter = new AdaptiveConcurrencyLimiter(true, 1, 1, 10, Duration.ZERO);
+        gateway = new EmployeeGateway(
+                new HttpEmployeeTransport(restTemplate, HttpEmployeeTransport.DEFAULT_BASE_URL), limiter);
+    }
+
+    @Test
+    void findEmployeeById_found() {
+        final UUID id = UUID.randomUUID();
+        server.expect(requestTo(HttpEmployeeTransport.DEFAULT_BASE_URL + "/" + id))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        "{\"data\":{\"id\":\"" + id + "\",\"name\":\"Alice\"},"
+                                + "\"status\":\"Successfully processed request.\"}",
+                        MediaType.APPLICATION_JSON));
+
+        final UpstreamResult<EmployeeResource> result = gateway.findEmployeeById(id.toString());
+
+        assertThat(result).isInstanceOf(UpstreamResult.Found.class);
+        assertThat(((UpstreamResult.Found<EmployeeResource>) result).value().getId())
+                .isEqualTo(id);
+        server.verify();
+    }
+
+    @Test
+    void findEmployeeById_404_notFound() {
+        server.expect(requestTo(HttpEmployeeTransport.DEFAULT_BASE_URL + "/missing"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"status\":\"Successfully processed request.\"}"));
+
+        assertThat(gateway.findEmployeeById("missing")).isEqualTo(UpstreamResult.notFound());
+    }
+
+    @Test
+    void listEmployees_429_throttledWithRetryAfter() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "42");
+        server.expect(requestTo(HttpEmployeeTransport.DEFAULT_BASE_URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(headers));
+
+        assertThat(gateway.listEmployees()).isEqualTo(UpstreamResult.throttled(Duration.ofSeconds(42)));
+    }
+
+    @Test
+    void listEmployees_500_failed() {
+        server.expect(requestTo(HttpEmployeeTransport.DEFAULT_BASE_URL)).andRespond(withServerError());
+
+        assertThat(gateway.listEmployees()).isInstanceOf(UpstreamResult.Failed.class);
+    }
+
+    @Test
+    void listEmployees_errorStatusInBody_failed() {
+        server.expect(requestTo(HttpEmployeeTransport.DEFAULT_BASE_URL))
+                .andRespond(withSuccess(
+                        "{\"status\":\"Failed to process request.\",\"error\":\"boom\"}", MediaType.APPLICATION_JSON));
+
+        assertThat(gateway.listEmployees()).isEqualTo(UpstreamResult.failed("Upstream answered 200: boom"));
+    }
+
+    @Test
+    void listEmployees_success() {
+        server.expect(requestTo(HttpEmployeeTransport.DEFAULT_BASE_URL))
+                .andRespond(withSuccess(
+                        "{\"data\":[],\"status\":\"Successfully processed request.\"}", MediaType.APPLICATION_JSON));
+
+        assertThat(gateway.listEmployees()).isEqualTo(UpstreamResult.found(List.of()));
+    }
+
+    @Test
+    void overConcurrencyLimit_shedWithoutCall() {
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        assertThat(gateway.listEmployees()).isInstanceOf(UpstreamResult.Throttled.class);
+        server.verify();
+    }
+}
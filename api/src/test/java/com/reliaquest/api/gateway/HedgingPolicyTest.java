@@ -0,0 +1,121 @@
+package com.reliaquest.api.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HedgingPolicyTest {
+
+    private HedgingPolicy policy;
+
+    @AfterEach
+    void tearDown() {
+        if (policy != null) {
+            policy.stop();
+        }
+    }
+
+    @Test
+    void disabled_callsOnce() {
+        policy = new HedgingPolicy(false, 0.95, Duration.ofMillis(5), 0.05, 4);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final UpstreamResult<String> result = policy.call(() -> {
+            calls.incrementAndGet();
+            return UpstreamResult.found("Alice");
+        });
+
+        assertThat(result).isEqualTo(UpstreamResult.found("Alice"));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void beforeWarmUp_neverHedges() {
+        policy = new HedgingPolicy(true, 0.95, Duration.ofMillis(5), 1, 4);
+        final AtomicInteger calls = new AtomicInteger();
+
+        policy.call(slow(calls, 50));
+
+        assertThat(calls).hasValue(1);
+        assertThat(policy.delay().isNegative()).isTrue();
+    }
+
+    @Test
+    void slowPrimary_hedgeAnswersFirst() {
+        policy = warmedUp(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final long start = System.nanoTime();
+        final UpstreamResult<String> result = policy.call(() -> {
+            // The first attempt stalls, the hedge answers straight away
+            if (calls.incrementAndGet() == 1) {
+                sleep(2000);
+                return UpstreamResult.found("primary");
+            }
+            return UpstreamResult.found("hedge");
+        });
+
+        assertThat(result).isEqualTo(UpstreamResult.found("hedge"));
+        assertThat(calls).hasValue(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void failedHedge_waitsForPrimary() {
+        policy = warmedUp(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final UpstreamResult<String> result = policy.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(100);
+                return UpstreamResult.found("primary");
+            }
+            return UpstreamResult.failed("Upstream answered 500");
+        });
+
+        assertThat(result).isEqualTo(UpstreamResult.found("primary"));
+    }
+
+    @Test
+    void budgetExhausted_stopsHedging() {
+        // Budget 0 leaves only the initial burst of 10 tokens
+        policy = warmedUp(0);
+        final AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 12; i++) {
+            policy.call(slow(calls, 30));
+        }
+
+        assertThat(calls).hasValue(12 + 10);
+    }
+
+    private static HedgingPolicy warmedUp(final double budget) {
+        final HedgingPolicy policy = new HedgingPolicy(true, 0.95, Duration.ofMillis(5), budget, 4);
+        for (int i = 0; i < 32; i++) {
+            policy.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(5));
+        return policy;
+    }
+
+    private static Supplier<UpstreamResult<String>> slow(final AtomicInteger calls, final long millis) {
+        return () -> {
+            calls.incrementAndGet();
+            sleep(millis);
+            return UpstreamResult.found("Alice");
+        };
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
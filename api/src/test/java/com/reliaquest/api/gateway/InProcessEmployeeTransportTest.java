@@ -0,0 +1,116 @@
+package com.reliaquest.api.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.Validation;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InProcessEmployeeTransportTest {
+
+    private InProcessEmployeeTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InProcessEmployeeTransport(
+                new MockEmployeeService(new ArrayList<>(), 1),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void createFindDelete_roundTrip() {
+        final EmployeeResource created = found(transport.createEmployee(body("Alice", 150000, 31, "Dev")));
+
+        assertThat(created.getName()).isEqualTo("Alice");
+        assertThat(created.getEmail()).isNotBlank();
+        assertThat(found(transport.findEmployeeById(created.getId().toString())))
+                .isEqualTo(created);
+        assertThat(found(transport.listEmployees())).containsExactly(created);
+        assertThat(found(transport.searchEmployeesByName("ali"))).containsExactly(created);
+
+        assertThat(found(transport.deleteEmployeeById(created.getId().toString())))
+                .isEqualTo(created);
+        assertThat(transport.findEmployeeById(created.getId().toString())).isEqualTo(UpstreamResult.notFound());
+        assertThat(transport.deleteEmployeeById(created.getId().toString())).isEqualTo(UpstreamResult.notFound());
+    }
+
+    @Test
+    void createEmployees_invalidEntry_rejectsBatch() {
+        final UpstreamResult<List<EmployeeResource>> result =
+                transport.createEmployees(List.of(body("Alice", 150000, 31, "Dev"), body("Bob", 100000, 90, "QA")));
+
+        assertThat(result).isEqualTo(UpstreamResult.rejected("employees[1].age must be less than or equal to 75"));
+        assertThat(found(transport.listEmployees())).isEmpty();
+    }
+
+    @Test
+    void createEmployees_emptyBatch_rejected() {
+        assertThat(transport.createEmployees(List.of())).isInstanceOf(UpstreamResult.Rejected.class);
+    }
+
+    @Test
+    void createEmployees_inInputOrder() {
+        final List<EmployeeResource> created = found(
+                transport.createEmployees(List.of(body("Alice", 150000, 31, "Dev"), body("Bob", 100000, 45, "QA"))));
+
+        assertThat(created).extracting(EmployeeResource::getName).containsExactly("Alice", "Bob");
+    }
+
+    @Test
+    void findEmployeeById_malformedId_rejected() {
+        assertThat(transport.findEmployeeById("not-a-uuid")).isInstanceOf(UpstreamResult.Rejected.class);
+        assertThat(transport.findEmployeeById(UUID.randomUUID().toString())).isEqualTo(UpstreamResult.notFound());
+    }
+
+    @Test
+    void salaryStatistics_mapped() {
+        transport.createEmployee(body("Alice", 150000, 31, "Dev"));
+        transport.createEmployee(body("Bob", 100000, 45, "QA"));
+
+        final SalaryStatisticsReport report = found(transport.salaryStatistics());
+
+        assertThat(report.overall().count()).isEqualTo(2);
+        assertThat(report.byTitle()).containsOnlyKeys("Dev", "QA");
+    }
+
+    @Test
+    void calls_recordedAsFlightRecorderEvents(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("upstream.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.reliaquest.api.UpstreamRequest").withThreshold(Duration.ZERO);
+            recording.start();
+            transport.listEmployees();
+            transport.findEmployeeById(UUID.randomUUID().toString());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .extracting(event -> event.getString("operation") + " " + event.getString("outcome"))
+                .containsExactlyInAnyOrder("list Found", "find NotFound");
+        assertThat(events).allMatch(event -> "in-process".equals(event.getString("transport")));
+    }
+
+    private static Map<String, Object> body(final String name, final int salary, final int age, final String title) {
+        return Map.of("name", name, "salary", salary, "age", age, "title", title);
+    }
+
+    private static <T> T found(final UpstreamResult<T> result) {
+        assertThat(result).isInstanceOf(UpstreamResult.Found.class);
+        return ((UpstreamResult.Found<T>) result).value();
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BkTreeTest {
+
+    private BkTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new BkTree();
+        tree.add("alice", 0);
+        tree.add("alicia", 1);
+        tree.add("bob", 2);
+        tree.add("rob", 3);
+        tree.add("alice", 4);
+    }
+
+    @Test
+    void distance_levenshtein() {
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(BkTree.distance("", "bob")).isEqualTo(3);
+        assertThat(BkTree.distance("bob", "bob")).isZero();
+    }
+
+    @Test
+    void search_closestFirst() {
+        final List<BkTree.Match> matches = tree.search("alise", 2);
+
+        assertThat(matches).extracting(BkTree.Match::key).containsExactly("alice", "alicia");
+        assertThat(matches).extracting(BkTree.Match::distance).containsExactly(1, 2);
+        assertThat(matches.get(0).rows()).containsExactlyInAnyOrder(0, 4);
+    }
+
+    @Test
+    void search_exactOnly() {
+        assertThat(tree.search("bob", 0)).extracting(BkTree.Match::key).containsExactly("bob");
+    }
+
+    @Test
+    void remove_lastRowLeavesTombstone() {
+        assertThat(tree.remove("bob", 2)).isTrue();
+        assertThat(tree.remove("bob", 2)).isFalse();
+
+        assertThat(tree.search("bob", 1)).extracting(BkTree.Match::key).containsExactly("rob");
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.tombstones()).isEqualTo(1);
+
+        tree.add("bob", 5);
+        assertThat(tree.tombstones()).isZero();
+        assertThat(tree.search("bob", 0).get(0).rows()).containsExactly(5);
+    }
+
+    @Test
+    void manyRemoves_rebuildDropsTombstones() {
+        final BkTree large = new BkTree();
+        for (int i = 0; i < 200; i++) {
+            large.add("name" + i, i);
+        }
+        for (int i = 0; i < 150; i++) {
+            large.remove("name" + i, i);
+        }
+
+        assertThat(large.size()).isEqualTo(50);
+        assertThat(large.tombstones()).isLessThan(large.size() + 1);
+        assertThat(large.search("name199", 0)).extracting(BkTree.Match::key).containsExactly("name199");
+        assertThat(large.search("name10", 0)).isEmpty();
+    }
+}
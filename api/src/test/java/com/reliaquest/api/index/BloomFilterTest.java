@@ -0,0 +1,59 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void putIds_alwaysMightContain() {
+        final BloomFilter filter = new BloomFilter(64, 0.01);
+        final List<UUID> ids = randomIds(10_000);
+
+        ids.forEach(filter::put);
+
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.layerCount()).isGreaterThan(1);
+    }
+
+    @Test
+    void falsePositiveRate_staysNearTarget() {
+        final BloomFilter filter = new BloomFilter(1024, 0.01);
+        randomIds(20_000).forEach(filter::put);
+
+        final long falsePositives =
+                randomIds(100_000).stream().filter(filter::mightContain).count();
+
+        // Four full layers at 1%, 0.5%, 0.25% and 0.125% plus a barely used fifth: about 1.9%
+        assertThat(falsePositives).isLessThan(2_500);
+    }
+
+    @Test
+    void empty_containsNothing() {
+        final BloomFilter filter = new BloomFilter(16, 0.01);
+
+        assertThat(randomIds(100)).noneMatch(filter::mightContain);
+    }
+
+    @Test
+    void invalidSizing_throws() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(16, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<UUID> randomIds(final int count) {
+        final List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return ids;
+    }
+}
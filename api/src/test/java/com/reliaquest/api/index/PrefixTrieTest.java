@@ -0,0 +1,67 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie(2);
+        trie.add("alice", 0, 100);
+        trie.add("alicia", 1, 300);
+        trie.add("albert", 2, 200);
+        trie.add("bob", 3, 50);
+    }
+
+    @Test
+    void complete_bestScoresFirst() {
+        assertThat(trie.complete("al", 10)).containsExactly(1, 2);
+        assertThat(trie.complete("ali", 10)).containsExactly(1, 0);
+        assertThat(trie.complete("", 1)).containsExactly(1);
+    }
+
+    @Test
+    void complete_unknownPrefix_empty() {
+        assertThat(trie.complete("carl", 10)).isEmpty();
+    }
+
+    @Test
+    void remove_refillsFromSubtree() {
+        assertThat(trie.remove("alicia", 1)).isTrue();
+
+        assertThat(trie.complete("al", 10)).containsExactly(2, 0);
+        assertThat(trie.complete("alic", 10)).containsExactly(0);
+    }
+
+    @Test
+    void remove_unknownKeyOrRow_false() {
+        assertThat(trie.remove("alex", 0)).isFalse();
+        assertThat(trie.remove("alice", 9)).isFalse();
+    }
+
+    @Test
+    void sameRowUnderSeveralKeys_rankedOnce() {
+        trie.add("smith", 1, 300);
+
+        assertThat(trie.complete("", 10)).containsExactly(1, 2);
+
+        trie.remove("alicia", 1);
+        assertThat(trie.complete("", 10)).containsExactly(1, 2);
+        assertThat(trie.complete("s", 10)).containsExactly(1);
+    }
+
+    @Test
+    void remove_prunesEmptyBranches() {
+        final int nodes = trie.nodeCount();
+
+        trie.remove("bob", 3);
+
+        assertThat(trie.nodeCount()).isEqualTo(nodes - 3);
+        assertThat(trie.complete("b", 10)).isEmpty();
+    }
+}
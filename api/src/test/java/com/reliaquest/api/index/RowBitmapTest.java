@@ -0,0 +1,75 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RowBitmapTest {
+
+    @Test
+    void addRemoveContains() {
+        final RowBitmap bitmap = new RowBitmap();
+
+        assertThat(bitmap.add(3)).isTrue();
+        assertThat(bitmap.add(3)).isFalse();
+        assertThat(bitmap.add(70_000)).isTrue();
+
+        assertThat(bitmap.contains(3)).isTrue();
+        assertThat(bitmap.contains(4)).isFalse();
+        assertThat(bitmap.toArray()).containsExactly(3, 70_000);
+
+        assertThat(bitmap.remove(70_000)).isTrue();
+        assertThat(bitmap.remove(70_000)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void denseContainer_switchesToBitmapAndBack() {
+        final RowBitmap bitmap = new RowBitmap();
+        for (int row = 0; row <= RowBitmap.ARRAY_MAX; row++) {
+            bitmap.add(row);
+        }
+        assertThat(bitmap.isBitmapContainer(0)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(RowBitmap.ARRAY_MAX + 1);
+
+        bitmap.remove(0);
+        assertThat(bitmap.isBitmapContainer(1)).isFalse();
+        assertThat(bitmap.contains(RowBitmap.ARRAY_MAX)).isTrue();
+        assertThat(bitmap.contains(0)).isFalse();
+    }
+
+    @Test
+    void andOr_matchBitSet() {
+        final Random random = new Random(7);
+        final RowBitmap sparse = new RowBitmap();
+        final RowBitmap dense = new RowBitmap();
+        final BitSet sparseBits = new BitSet();
+        final BitSet denseBits = new BitSet();
+        for (int i = 0; i < 3000; i++) {
+            final int row = random.nextInt(200_000);
+            sparse.add(row);
+            sparseBits.set(row);
+        }
+        for (int row = 0; row < 200_000; row++) {
+            if (random.nextInt(3) == 0) {
+                dense.add(row);
+                denseBits.set(row);
+            }
+        }
+
+        final BitSet and = (BitSet) sparseBits.clone();
+        and.and(denseBits);
+        final BitSet or = (BitSet) sparseBits.clone();
+        or.or(denseBits);
+
+        assertThat(sparse.and(dense).toArray()).containsExactly(and.stream().toArray());
+        assertThat(dense.and(sparse).toArray()).containsExactly(and.stream().toArray());
+        assertThat(sparse.andCardinality(dense)).isEqualTo(and.cardinality());
+        assertThat(dense.andCardinality(dense)).isEqualTo(denseBits.cardinality());
+        assertThat(sparse.or(dense).toArray()).containsExactly(or.stream().toArray());
+        assertThat(sparse.or(sparse).toArray())
+                .containsExactly(sparseBits.stream().toArray());
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SortedIntIndexTest {
+
+    private SortedIntIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SortedIntIndex();
+        index.insert(300, 0);
+        index.insert(100, 1);
+        index.insert(200, 2);
+        index.insert(200, 3);
+    }
+
+    @Test
+    void insert_keepsKeysSorted() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(new int[] {index.keyAt(0), index.keyAt(1), index.keyAt(2), index.keyAt(3)})
+                .containsExactly(100, 200, 200, 300);
+    }
+
+    @Test
+    void rowsBetween_inclusiveBounds() {
+        assertThat(index.rowsBetween(100, 200)).containsExactly(1, 2, 3);
+        assertThat(index.rowsBetween(201, 299)).isEmpty();
+        assertThat(index.rowsBetween(300, 100)).isEmpty();
+    }
+
+    @Test
+    void countBetween_matchesRows() {
+        assertThat(index.countBetween(0, Integer.MAX_VALUE)).isEqualTo(4);
+        assertThat(index.countBetween(200, 200)).isEqualTo(2);
+    }
+
+    @Test
+    void remove_onlyTheMatchingRow() {
+        assertThat(index.remove(200, 3)).isTrue();
+        assertThat(index.remove(200, 3)).isFalse();
+        assertThat(index.remove(100, 2)).isFalse();
+        assertThat(index.rowsBetween(0, 1000)).containsExactly(1, 2, 0);
+    }
+
+    @Test
+    void insert_growsPastInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            index.insert(i, 100 + i);
+        }
+        assertThat(index.size()).isEqualTo(104);
+        assertThat(index.countBetween(0, 99)).isEqualTo(100);
+    }
+
+    @Test
+    void batch_matchesSingleInsertsAndRemoves() {
+        final Random random = new Random(11);
+        final SortedIntIndex single = new SortedIntIndex();
+        final SortedIntIndex batched = new SortedIntIndex();
+        for (int row = 0; row < 1000; row++) {
+            final int key = random.nextInt(50);
+            single.insert(key, row);
+            batched.insert(key, row);
+        }
+
+        batched.beginBatch();
+        for (int row = 0; row < 1000; row += 3) {
+            single.remove(single.keyAt(positionOf(single, row)), row);
+            batched.remove(batched.keyAt(positionOf(batched, row)), row);
+        }
+        for (int row = 1000; row < 3000; row++) {
+            final int key = random.nextInt(50);
+            single.insert(key, row);
+            batched.insert(key, row);
+        }
+        assertThat(batched.size()).isEqualTo(1000);
+        batched.endBatch();
+
+        assertThat(batched.size()).isEqualTo(single.size());
+        for (int i = 0; i < single.size(); i++) {
+            assertThat(batched.keyAt(i)).isEqualTo(single.keyAt(i));
+        }
+        assertThat(batched.rowsBetween(10, 20)).containsExactlyInAnyOrder(single.rowsBetween(10, 20));
+    }
+
+    private static int positionOf(final SortedIntIndex index, final int row) {
+        for (int i = 0; i < index.size(); i++) {
+            if (index.rowAt(i) == row) {
+                return i;
+            }
+        }
+        throw new AssertionError("row " + row + " not indexed");
+    }
+}
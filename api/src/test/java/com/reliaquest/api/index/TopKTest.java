@@ -0,0 +1,48 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class TopKTest {
+
+    @Test
+    void select_firstKInOrder() {
+        assertThat(TopK.select(List.of(5, 1, 4, 2, 3), Comparator.naturalOrder(), 3))
+                .containsExactly(1, 2, 3);
+        assertThat(TopK.select(List.of(5, 1, 4, 2, 3), Comparator.reverseOrder(), 2))
+                .containsExactly(5, 4);
+    }
+
+    @Test
+    void select_kLargerThanInput_returnsAllSorted() {
+        assertThat(TopK.select(List.of(3, 1, 2), Comparator.naturalOrder(), 10)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void select_nothingToSelect_empty() {
+        assertThat(TopK.select(List.<Integer>of(), Comparator.naturalOrder(), 3))
+                .isEmpty();
+        assertThat(TopK.select(List.of(1), Comparator.naturalOrder(), 0)).isEmpty();
+    }
+
+    @Test
+    void select_largeInput_matchesFullSort() {
+        final Random random = new Random(42);
+        final List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < TopK.PARALLEL_THRESHOLD * 3; i++) {
+            items.add(random.nextInt(1_000_000));
+        }
+        final List<Integer> sorted = new ArrayList<>(items);
+        sorted.sort(Collections.reverseOrder());
+
+        assertThat(TopK.select(items, Comparator.reverseOrder(), 50))
+                .containsExactlyElementsOf(sorted.stream().limit(50).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.api.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeResource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private EmployeeResource alice;
+    private EmployeeResource bob;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("roster.snapshot");
+        alice = new EmployeeResource(UUID.randomUUID(), "Alice Müller", 150000, 31, "Dev", "alice@mail.com");
+        bob = new EmployeeResource(UUID.randomUUID(), "Bob", null, 45, null, null);
+    }
+
+    @Test
+    void writeRead_roundTrip() throws Exception {
+        final RosterSnapshot snapshot =
+                new RosterSnapshot(42, Instant.now().truncatedTo(ChronoUnit.MILLIS), List.of(alice, bob));
+
+        RosterSnapshotStore.write(path, snapshot);
+
+        assertThat(RosterSnapshotStore.read(path)).contains(snapshot);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void read_missingTruncatedOrCorrupt_ignored() throws Exception {
+        assertThat(RosterSnapshotStore.read(path)).isEmpty();
+
+        RosterSnapshotStore.write(path, new RosterSnapshot(1, Instant.now(), List.of(alice, bob)));
+        final byte[] bytes = Files.readAllBytes(path);
+
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+        assertThat(RosterSnapshotStore.read(path)).isEmpty();
+
+        Files.write(path, Arrays.copyOf(bytes, 20));
+        assertThat(RosterSnapshotStore.read(path)).isEmpty();
+    }
+
+    @Test
+    void save_onlyWhenVersionChanged() {
+        final EmployeeRoster roster = roster(UpstreamResult.found(List.of(alice)));
+        final RosterSnapshotStore store = new RosterSnapshotStore(roster, path.toString(), Duration.ofHours(1));
+
+        assertThat(store.save()).isFalse();
+        roster.snapshot();
+        assertThat(store.save()).isTrue();
+        assertThat(store.save()).isFalse();
+
+        roster.onEmployeeCreated(new EmployeeCreatedEvent(bob));
+        assertThat(store.save()).isTrue();
+        assertThat(RosterSnapshotStore.read(path).orElseThrow().employees()).containsExactly(alice, bob);
+    }
+
+    @Test
+    void start_restoresStaleRoster_servedWhileUpstreamIsDown() throws Exception {
+        RosterSnapshotStore.write(path, new RosterSnapshot(3, Instant.now(), List.of(alice, bob)));
+        final EmployeeRoster roster = roster(UpstreamResult.failed("connection refused"));
+        final RosterSnapshotStore store = new RosterSnapshotStore(roster, path.toString(), Duration.ofHours(1));
+
+        store.start();
+        try {
+            assertThat(roster.isStale()).isTrue();
+            assertThat(roster.version()).isEqualTo(3);
+            assertThat(roster.snapshot()).isEqualTo(UpstreamResult.found(List.of(alice, bob)));
+        } finally {
+            store.stop();
+        }
+    }
+
+    @Test
+    void restore_thenRefresh_noLongerStale() throws InterruptedException {
+        final EmployeeRoster roster = roster(UpstreamResult.found(List.of(bob)));
+
+        assertThat(roster.restore(new RosterSnapshot(3, Instant.now(), List.of(alice))))
+                .isTrue();
+        assertThat(roster.restore(new RosterSnapshot(4, Instant.now(), List.of(bob))))
+                .isFalse();
+        assertThat(roster.isStale()).isTrue();
+
+        // Answered straight away, the refresh runs in the background
+        assertThat(roster.ensureFresh().isFound()).isTrue();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (roster.isStale() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(roster.isStale()).isFalse();
+        assertThat(roster.snapshot()).isEqualTo(UpstreamResult.found(List.of(bob)));
+        assertThat(roster.version()).isEqualTo(4);
+    }
+
+    private static EmployeeRoster roster(final UpstreamResult<List<EmployeeResource>> upstream) {
+        final EmployeeGateway gateway = mock(EmployeeGateway.class);
+        when(gateway.listEmployees()).thenReturn(upstream);
+        return new EmployeeRoster(gateway, List.of(), Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,204 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeFacets;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.RankField;
+import com.reliaquest.api.model.SalaryHistogram;
+import com.reliaquest.api.roster.EmployeeCreatedEvent;
+import com.reliaquest.api.roster.EmployeeDeletedEvent;
+import com.reliaquest.api.roster.EmployeeRangeIndex;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.FacetIndex;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeAnalyticsServiceTest {
+
+    private EmployeeGateway gateway;
+    private EmployeeRoster roster;
+    private EmployeeAnalyticsService analyticsService;
+
+    private EmployeeResource alice;
+    private EmployeeResource bob;
+    private EmployeeResource charlie;
+
+    @BeforeEach
+    void setUp() {
+        alice = new EmployeeResource(UUID.randomUUID(), "Alice", 150000, 31, "Dev", "alice@mail.com");
+        bob = new EmployeeResource(UUID.randomUUID(), "Bob", 100000, 45, "QA", "bob@mail.com");
+        charlie = new EmployeeResource(UUID.randomUUID(), "Charlie", 50000, 23, "Dev", "charlie@mail.com");
+
+        gateway = mock(EmployeeGateway.class);
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(alice, bob, charlie)));
+
+        final EmployeeRangeIndex rangeIndex = new EmployeeRangeIndex();
+        final FacetIndex facetIndex = new FacetIndex(10, 50000);
+        roster = new EmployeeRoster(gateway, List.of(rangeIndex, facetIndex), Duration.ofMinutes(5));
+        analyticsService = new EmployeeAnalyticsService(roster, rangeIndex, facetIndex);
+    }
+
+    @Test
+    void getEmployeesBySalaryRange_orderedBySalary() {
+        assertThat(found(analyticsService.getEmployeesBySalaryRange(50000, 100000)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Charlie", "Bob");
+    }
+
+    @Test
+    void getEmployeesByAgeRange_inclusive() {
+        assertThat(found(analyticsService.getEmployeesByAgeRange(31, 45)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Alice", "Bob");
+    }
+
+    @Test
+    void getEmployeesBySalaryRange_invertedRange_throws() {
+        assertThatThrownBy(() -> analyticsService.getEmployeesBySalaryRange(10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void roster_fetchedOnceWithinTtl() {
+        analyticsService.getEmployeesBySalaryRange(0, 1);
+        analyticsService.getEmployeesByAgeRange(0, 1);
+
+        verify(gateway, times(1)).listEmployees();
+    }
+
+    @Test
+    void createAndDelete_updateIndexesInPlace() {
+        analyticsService.getEmployeesBySalaryRange(0, 1);
+        final long version = roster.version();
+        final EmployeeResource dan = new EmployeeResource(UUID.randomUUID(), "Dan", 75000, 50, "Ops", "dan@mail.com");
+
+        roster.onEmployeeCreated(new EmployeeCreatedEvent(dan));
+        roster.onEmployeeDeleted(new EmployeeDeletedEvent(bob.getId()));
+
+        assertThat(found(analyticsService.getEmployeesBySalaryRange(50000, 100000)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Charlie", "Dan");
+        assertThat(roster.version()).isEqualTo(version + 2);
+        verify(gateway, times(1)).listEmployees();
+    }
+
+    @Test
+    void getSalaryHistogram_coversMinToMax() {
+        final SalaryHistogram histogram = found(analyticsService.getSalaryHistogram(2, null, null));
+
+        assertThat(histogram.buckets())
+                .containsExactly(
+                        new SalaryHistogram.Bucket(50000, 100000, 2), new SalaryHistogram.Bucket(100001, 150000, 1));
+    }
+
+    @Test
+    void getSalaryHistogram_invalidBucketCount_throws() {
+        assertThatThrownBy(() -> analyticsService.getSalaryHistogram(0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rank_bySalaryDesc() {
+        assertThat(found(analyticsService.rank(RankField.SALARY, true, 2, null)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Alice", "Bob");
+    }
+
+    @Test
+    void rank_byAgeAscWithinTitle() {
+        assertThat(found(analyticsService.rank(RankField.AGE, false, 10, "dev")))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Charlie", "Alice");
+    }
+
+    @Test
+    void rank_invalidArguments_throw() {
+        assertThatThrownBy(() -> analyticsService.rank(RankField.AGE, true, 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankField.parse("email")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeAnalyticsService.isDescending("up"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getFacets_noFilter_countsEverything() {
+        final EmployeeFacets facets = found(analyticsService.getFacets(null, null, null, 10));
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.titles()).isEqualTo(Map.of("Dev", 2, "QA", 1));
+        assertThat(facets.ageBands()).isEqualTo(Map.of(20, 1, 30, 1, 40, 1));
+        assertThat(facets.salaryBands()).isEqualTo(Map.of(50000, 1, 100000, 1, 150000, 1));
+    }
+
+    @Test
+    void getFacets_filtersAndOtherDimensionCounts() {
+        final EmployeeFacets facets = found(analyticsService.getFacets(List.of("Dev"), List.of(20, 40), null, 10));
+
+        assertThat(facets.employees()).extracting(EmployeeResource::getName).containsExactly("Charlie");
+        // Title counts ignore the title filter, age counts ignore the age filter
+        assertThat(facets.titles()).isEqualTo(Map.of("Dev", 1, "QA", 1));
+        assertThat(facets.ageBands()).isEqualTo(Map.of(20, 1, 30, 1));
+        assertThat(facets.salaryBands()).isEqualTo(Map.of(50000, 1));
+    }
+
+    @Test
+    void getFacets_titlesIgnoreCase_likeRank() {
+        analyticsService.getFacets(null, null, null, 0);
+        final EmployeeResource dana =
+                new EmployeeResource(UUID.randomUUID(), "Dana", 120000, 38, "DEV", "dana@mail.com");
+        roster.onEmployeeCreated(new EmployeeCreatedEvent(dana));
+
+        final EmployeeFacets facets = found(analyticsService.getFacets(List.of("dev"), null, null, 10));
+
+        assertThat(facets.employees())
+                .extracting(EmployeeResource::getName)
+                .containsExactlyInAnyOrder("Alice", "Charlie", "Dana");
+        assertThat(found(analyticsService.rank(RankField.SALARY, true, 10, "dev")))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Alice", "Dana", "Charlie");
+        assertThat(facets.titles()).isEqualTo(Map.of("Dev", 3, "QA", 1));
+    }
+
+    @Test
+    void getFacets_followsRosterChanges() {
+        analyticsService.getFacets(null, null, null, 0);
+
+        roster.onEmployeeDeleted(new EmployeeDeletedEvent(bob.getId()));
+
+        final EmployeeFacets facets = found(analyticsService.getFacets(null, null, null, 0));
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.employees()).isEmpty();
+        assertThat(facets.titles()).isEqualTo(Map.of("Dev", 2));
+    }
+
+    @Test
+    void getFacets_bandNotOnBoundary_throws() {
+        assertThatThrownBy(() -> analyticsService.getFacets(null, List.of(25), null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void upstreamUnavailable_passedOnInsteadOfThrowing() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.throttled(Duration.ofSeconds(5)));
+
+        assertThat(analyticsService.getEmployeesBySalaryRange(0, 1))
+                .isEqualTo(UpstreamResult.throttled(Duration.ofSeconds(5)));
+        assertThat(analyticsService.rank(RankField.SALARY, true, 2, null)).isInstanceOf(UpstreamResult.Throttled.class);
+        assertThat(analyticsService.getFacets(null, null, null, 10)).isInstanceOf(UpstreamResult.Throttled.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T found(final UpstreamResult<T> result) {
+        assertThat(result).isInstanceOf(UpstreamResult.Found.class);
+        return ((UpstreamResult.Found<T>) result).value();
+    }
+}
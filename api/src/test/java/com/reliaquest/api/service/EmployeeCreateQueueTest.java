@@ -0,0 +1,169 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeCommand;
+import com.reliaquest.api.model.EmployeeCreateStatus;
+import com.reliaquest.api.model.EmployeeResource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class EmployeeCreateQueueTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeCreateQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void submit_coalescesIntoOneBatch() throws InterruptedException {
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> {
+            List<EmployeeCommand> commands = invocation.getArgument(0);
+            return UpstreamResult.found(
+                    commands.stream().map(EmployeeCreateQueueTest::resource).toList());
+        });
+        queue = new EmployeeCreateQueue(employeeService, 10, 10, Duration.ofMillis(200), Duration.ofMinutes(1));
+
+        EmployeeCreateStatus first = queue.submit(new EmployeeCommand("Alice", 100, 30, "Dev"));
+        EmployeeCreateStatus second = queue.submit(new EmployeeCommand("Bob", 200, 40, "QA"));
+        queue.start();
+
+        verify(employeeService, timeout(2000)).createEmployees(argThat(commands -> commands.size() == 2));
+        awaitDone(first.trackingId());
+        assertThat(queue.status(first.trackingId()))
+                .get()
+                .extracting(
+                        EmployeeCreateStatus::state, status -> status.employee().getName())
+                .containsExactly(EmployeeCreateStatus.State.CREATED, "Alice");
+        assertThat(queue.status(second.trackingId()).get().employee().getName()).isEqualTo("Bob");
+    }
+
+    @Test
+    void submit_batchRejected_fallsBackToSingleCreates() throws InterruptedException {
+        when(employeeService.createEmployees(anyList())).thenReturn(UpstreamResult.rejected("Upstream answered 400"));
+        when(employeeService.createEmployee(argThat(command -> command.getName().equals("Alice"))))
+                .thenReturn(UpstreamResult.found(resource(new EmployeeCommand("Alice", 100, 30, "Dev"))));
+        when(employeeService.createEmployee(argThat(command -> command.getName().equals("Bob"))))
+                .thenReturn(UpstreamResult.rejected("Upstream answered 400"));
+        when(employeeService.createEmployee(argThat(command -> command.getName().equals("Carol"))))
+                .thenThrow(new IllegalStateException("boom"));
+        queue = new EmployeeCreateQueue(employeeService, 10, 10, Duration.ofMillis(200), Duration.ofMinutes(1));
+
+        EmployeeCreateStatus alice = queue.submit(new EmployeeCommand("Alice", 100, 30, "Dev"));
+        EmployeeCreateStatus bob = queue.submit(new EmployeeCommand("Bob", 200, 40, "QA"));
+        EmployeeCreateStatus carol = queue.submit(new EmployeeCommand("Carol", 300, 50, "Ops"));
+        queue.start();
+
+        awaitDone(alice.trackingId());
+        awaitDone(bob.trackingId());
+        awaitDone(carol.trackingId());
+        assertThat(queue.status(alice.trackingId()).get().state()).isEqualTo(EmployeeCreateStatus.State.CREATED);
+        assertThat(queue.status(bob.trackingId()).get().state()).isEqualTo(EmployeeCreateStatus.State.FAILED);
+        assertThat(queue.status(carol.trackingId()).get().error()).isEqualTo("boom");
+    }
+
+    @Test
+    void submit_batchFailed_failsBatchWithoutResending() throws InterruptedException {
+        when(employeeService.createEmployees(anyList())).thenReturn(UpstreamResult.failed("Upstream created 1 of 2"));
+        queue = new EmployeeCreateQueue(employeeService, 10, 10, Duration.ofMillis(200), Duration.ofMinutes(1));
+
+        EmployeeCreateStatus alice = queue.submit(new EmployeeCommand("Alice", 100, 30, "Dev"));
+        EmployeeCreateStatus bob = queue.submit(new EmployeeCommand("Bob", 200, 40, "QA"));
+        queue.start();
+
+        awaitDone(alice.trackingId());
+        awaitDone(bob.trackingId());
+        assertThat(queue.status(alice.trackingId()).get().error()).isEqualTo("Upstream created 1 of 2");
+        assertThat(queue.status(bob.trackingId()).get().state()).isEqualTo(EmployeeCreateStatus.State.FAILED);
+        verify(employeeService, times(1)).createEmployees(anyList());
+        verify(employeeService, never()).createEmployee(any());
+    }
+
+    @Test
+    void submit_batchThrottled_resentAfterBackoff() throws InterruptedException {
+        when(employeeService.createEmployees(anyList()))
+                .thenReturn(UpstreamResult.throttled(Duration.ofMillis(10)))
+                .thenAnswer(invocation -> {
+                    List<EmployeeCommand> commands = invocation.getArgument(0);
+                    return UpstreamResult.found(commands.stream()
+                            .map(EmployeeCreateQueueTest::resource)
+                            .toList());
+                });
+        queue = new EmployeeCreateQueue(employeeService, 10, 10, Duration.ofMillis(20), Duration.ofMinutes(1));
+
+        EmployeeCreateStatus alice = queue.submit(new EmployeeCommand("Alice", 100, 30, "Dev"));
+        queue.start();
+
+        awaitDone(alice.trackingId());
+        assertThat(queue.status(alice.trackingId()).get().state()).isEqualTo(EmployeeCreateStatus.State.CREATED);
+        verify(employeeService, times(2)).createEmployees(anyList());
+        verify(employeeService, never()).createEmployee(any());
+    }
+
+    @Test
+    void submit_queueFull_rejects() {
+        queue = new EmployeeCreateQueue(employeeService, 1, 10, Duration.ofMillis(50), Duration.ofMinutes(1));
+
+        queue.submit(new EmployeeCommand("Alice", 100, 30, "Dev"));
+
+        assertThatThrownBy(() -> queue.submit(new EmployeeCommand("Bob", 200, 40, "QA")))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(queue.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_invalidCommand_notQueued() {
+        doThrow(new IllegalArgumentException("Employee name is required"))
+                .when(employeeService)
+                .validateEmployeeCommand(any());
+        queue = new EmployeeCreateQueue(employeeService, 10, 10, Duration.ofMillis(50), Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> queue.submit(new EmployeeCommand("", 100, 30, "Dev")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(queue.pending()).isZero();
+    }
+
+    private void awaitDone(UUID trackingId) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!queue.status(trackingId).map(EmployeeCreateStatus::isDone).orElse(false)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queue.status(trackingId).map(EmployeeCreateStatus::isDone))
+                .as("create %s finished", trackingId)
+                .contains(true);
+    }
+
+    private static EmployeeResource resource(EmployeeCommand command) {
+        return new EmployeeResource(
+                UUID.randomUUID(),
+                command.getName(),
+                command.getSalary(),
+                command.getAge(),
+                command.getTitle(),
+                command.getName().toLowerCase() + "@mail.com");
+    }
+}
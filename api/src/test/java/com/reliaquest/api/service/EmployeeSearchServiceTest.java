@@ -0,0 +1,115 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.roster.EmployeeDeletedEvent;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.FuzzyNameIndex;
+import com.reliaquest.api.roster.PrefixNameIndex;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSearchServiceTest {
+
+    private EmployeeGateway gateway;
+    private EmployeeRoster roster;
+    private EmployeeSearchService searchService;
+
+    private EmployeeResource jon;
+
+    @BeforeEach
+    void setUp() {
+        jon = new EmployeeResource(UUID.randomUUID(), "Jon Smith", 150000, 31, "Dev", "jon@mail.com");
+        final EmployeeResource john =
+                new EmployeeResource(UUID.randomUUID(), "John Smith", 100000, 45, "QA", "john@mail.com");
+        final EmployeeResource jane =
+                new EmployeeResource(UUID.randomUUID(), "Jane Doe", 50000, 23, "Dev", "jane@mail.com");
+
+        gateway = mock(EmployeeGateway.class);
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(jon, john, jane)));
+
+        final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+        final PrefixNameIndex prefixNameIndex = new PrefixNameIndex("salary", 10);
+        roster = new EmployeeRoster(gateway, List.of(fuzzyNameIndex, prefixNameIndex), Duration.ofMinutes(5));
+        searchService = new EmployeeSearchService(roster, fuzzyNameIndex, prefixNameIndex);
+    }
+
+    @Test
+    void fuzzySearch_misspelled_rankedByDistance() {
+        assertThat(found(searchService.fuzzySearch("Jhon Smith", 2, 10)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Jon Smith", "John Smith");
+    }
+
+    @Test
+    void fuzzySearch_ignoresCaseAndPunctuation() {
+        assertThat(found(searchService.fuzzySearch("jane-doe", 0, 10)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("Jane Doe");
+    }
+
+    @Test
+    void fuzzySearch_limit() {
+        assertThat(found(searchService.fuzzySearch("Jhon Smith", 2, 1))).hasSize(1);
+    }
+
+    @Test
+    void fuzzySearch_followsRosterChanges() {
+        searchService.fuzzySearch("Jon Smith", 0, 10);
+
+        roster.onEmployeeDeleted(new EmployeeDeletedEvent(jon.getId()));
+
+        assertThat(found(searchService.fuzzySearch("Jon Smith", 1, 10)))
+                .extracting(EmployeeResource::getName)
+                .containsExactly("John Smith");
+    }
+
+    @Test
+    void fuzzySearch_invalidArguments_throw() {
+        assertThatThrownBy(() -> searchService.fuzzySearch("Jon", 4, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.fuzzySearch("Jon", 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void autocomplete_nameAndWordPrefixes_rankedBySalary() {
+        assertThat(found(searchService.autocomplete("jo", 10))).containsExactly("Jon Smith", "John Smith");
+        assertThat(found(searchService.autocomplete("Smi", 10))).containsExactly("Jon Smith", "John Smith");
+        assertThat(found(searchService.autocomplete("d", 10))).containsExactly("Jane Doe");
+    }
+
+    @Test
+    void autocomplete_followsRosterChanges() {
+        searchService.autocomplete("j", 10);
+
+        roster.onEmployeeDeleted(new EmployeeDeletedEvent(jon.getId()));
+
+        assertThat(found(searchService.autocomplete("j", 10))).containsExactly("John Smith", "Jane Doe");
+    }
+
+    @Test
+    void autocomplete_limitAboveMaxResults_throws() {
+        assertThatThrownBy(() -> searchService.autocomplete("j", 11)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void upstreamUnavailable_passedOnInsteadOfThrowing() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.failed("Upstream answered 500"));
+
+        assertThat(searchService.fuzzySearch("Jon", 1, 10)).isEqualTo(UpstreamResult.failed("Upstream answered 500"));
+        assertThat(searchService.autocomplete("j", 10)).isInstanceOf(UpstreamResult.Failed.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T found(final UpstreamResult<T> result) {
+        assertThat(result).isInstanceOf(UpstreamResult.Found.class);
+        return ((UpstreamResult.Found<T>) result).value();
+    }
+}
@@ -5,30 +5,35 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.HedgingPolicy;
+import com.reliaquest.api.gateway.UpstreamResult;
 import com.reliaquest.api.model.EmployeeCommand;
 import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.SalaryStatisticsReport;
+import com.reliaquest.api.roster.EmployeeCreatedEvent;
+import com.reliaquest.api.roster.EmployeeDeletedEvent;
+import com.reliaquest.api.roster.EmployeeIdFilter;
+import com.reliaquest.api.roster.EmployeeRoster;
+import java.time.Duration;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 
 class EmployeeServiceTest {
 
     @Mock
-    private RestTemplate restTemplate;
+    private EmployeeGateway gateway;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EmployeeIdFilter idFilter;
+    private EmployeeRoster roster;
     private EmployeeService employeeService;
 
     private EmployeeResource emp1;
@@ -39,113 +44,203 @@ class EmployeeServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        idFilter = new EmployeeIdFilter(true, Duration.ofMinutes(5), Duration.ofMinutes(1), 100);
+        roster = new EmployeeRoster(gateway, List.of(idFilter), Duration.ofMinutes(5));
+        HedgingPolicy noHedging = new HedgingPolicy(false, 0.95, Duration.ofMillis(5), 0.05, 1);
+        employeeService = new EmployeeService(gateway, roster, noHedging, idFilter, eventPublisher);
         emp1 = new EmployeeResource(UUID.randomUUID(), "Alice", highestSalary, 31, "Dev", "alice@mail.com");
         emp2 = new EmployeeResource(UUID.randomUUID(), "Bob", 100000, 33, "QA", "bob@mail.com");
     }
 
     @Test
     void getAllEmployees_success() {
-        ApiResponse<EmployeeResource[]> apiResponse =
-                new ApiResponse<>(new EmployeeResource[] {emp1, emp2}, ApiResponse.Status.HANDLED, null);
-        ResponseEntity<ApiResponse<EmployeeResource[]>> response = new ResponseEntity<>(apiResponse, HttpStatus.OK);
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(response);
+        UpstreamResult<List<EmployeeResource>> employees = employeeService.getAllEmployees();
 
-        List<EmployeeResource> employees = employeeService.getAllEmployees();
-
-        assertThat(employees).hasSize(2).extracting(EmployeeResource::getName).contains("Alice", "Bob");
+        assertThat(employees).isEqualTo(UpstreamResult.found(List.of(emp1, emp2)));
     }
 
     @Test
     void getAllEmployees_apiError() {
-        ApiResponse<EmployeeResource[]> apiResponse = new ApiResponse<>(null, ApiResponse.Status.ERROR, "Failed");
-        ResponseEntity<ApiResponse<EmployeeResource[]>> response = new ResponseEntity<>(apiResponse, HttpStatus.OK);
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.failed("Upstream answered 500"));
+
+        UpstreamResult<List<EmployeeResource>> employees = employeeService.getAllEmployees();
+
+        assertThat(employees).isEqualTo(UpstreamResult.failed("Upstream answered 500"));
+    }
+
+    @Test
+    void getAllEmployees_servedFromRoster() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(response);
+        employeeService.getAllEmployees();
+        employeeService.getHighestSalary();
+        employeeService.getTopTenHighestEarningEmployeeNames();
 
-        List<EmployeeResource> employees = employeeService.getAllEmployees();
+        verify(gateway, times(1)).listEmployees();
+    }
+
+    @Test
+    void searchEmployeesByName_pushedDownToUpstream() {
+        when(gateway.searchEmployeesByName("ali")).thenReturn(UpstreamResult.found(List.of(emp1)));
+
+        UpstreamResult<List<EmployeeResource>> result = employeeService.searchEmployeesByName("ali");
 
-        assertThat(employees).isEmpty();
+        assertThat(result).isEqualTo(UpstreamResult.found(List.of(emp1)));
+        verify(gateway, never()).listEmployees();
     }
 
     @Test
-    void searchEmployeesByName_success() {
-        EmployeeService spyService = spy(employeeService);
-        doReturn(List.of(emp1, emp2)).when(spyService).getAllEmployees();
+    void searchEmployeesByName_ignoresPunctuation_refiltersLocally() {
+        // A server that ignores nameContains answers with everyone
+        when(gateway.searchEmployeesByName("B-O-B")).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
 
-        List<EmployeeResource> result = spyService.searchEmployeesByName("ali");
+        UpstreamResult<List<EmployeeResource>> result = employeeService.searchEmployeesByName("B-O-B");
 
-        assertThat(result)
-                .hasSize(1)
-                .first()
-                .extracting(EmployeeResource::getName)
-                .isEqualTo("Alice");
+        assertThat(result).isEqualTo(UpstreamResult.found(List.of(emp2)));
     }
 
     @Test
     void searchEmployeesByName_emptySearchString() {
-        List<EmployeeResource> result = employeeService.searchEmployeesByName("   ");
-        assertThat(result).isEmpty();
+        UpstreamResult<List<EmployeeResource>> result = employeeService.searchEmployeesByName("   ");
+
+        assertThat(result).isEqualTo(UpstreamResult.found(List.of()));
+        verifyNoInteractions(gateway);
     }
 
     @Test
     void getEmployeeById_found() {
-        ApiResponse<EmployeeResource> apiResponse = new ApiResponse<>(emp1, ApiResponse.Status.HANDLED, null);
-        ResponseEntity<ApiResponse<EmployeeResource>> response = new ResponseEntity<>(apiResponse, HttpStatus.OK);
-
-        when(restTemplate.exchange(
-                        contains(emp1.getId().toString()),
-                        eq(HttpMethod.GET),
-                        isNull(),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(response);
+        when(gateway.findEmployeeById(emp1.getId().toString())).thenReturn(UpstreamResult.found(emp1));
 
-        Optional<EmployeeResource> employee =
+        UpstreamResult<EmployeeResource> employee =
                 employeeService.getEmployeeById(emp1.getId().toString());
 
-        assertThat(employee).isPresent();
-        assertThat(employee.get().getName()).isEqualTo("Alice");
+        assertThat(employee).isEqualTo(UpstreamResult.found(emp1));
     }
 
     @Test
     void getEmployeeById_notFound() {
         UUID id = UUID.randomUUID();
+        when(gateway.findEmployeeById(id.toString())).thenReturn(UpstreamResult.notFound());
+
+        UpstreamResult<EmployeeResource> result = employeeService.getEmployeeById(id.toString());
+
+        assertInstanceOf(UpstreamResult.NotFound.class, result, "Expected not found for non-existing employee ID");
+    }
+
+    @Test
+    void getEmployeeById_throttled() {
+        UUID id = UUID.randomUUID();
+        when(gateway.findEmployeeById(id.toString())).thenReturn(UpstreamResult.throttled(Duration.ofSeconds(30)));
+
+        UpstreamResult<EmployeeResource> result = employeeService.getEmployeeById(id.toString());
+
+        assertThat(result).isEqualTo(UpstreamResult.throttled(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void getEmployeeById_malformedId_notFoundLocally() {
+        assertInstanceOf(UpstreamResult.NotFound.class, employeeService.getEmployeeById("1"));
+        verifyNoInteractions(gateway);
+    }
+
+    @Test
+    void getEmployeeById_absentFromFreshRoster_notFoundLocally() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
+        when(gateway.findEmployeeById(emp1.getId().toString())).thenReturn(UpstreamResult.found(emp1));
+        employeeService.getAllEmployees();
+
+        assertInstanceOf(
+                UpstreamResult.NotFound.class,
+                employeeService.getEmployeeById(UUID.randomUUID().toString()));
+        assertThat(employeeService.getEmployeeById(emp1.getId().toString())).isEqualTo(UpstreamResult.found(emp1));
+        verify(gateway, times(1)).findEmployeeById(anyString());
+    }
+
+    @Test
+    void getEmployeeById_createdUpstreamAfterRefresh_foundPastTrustWindow() throws InterruptedException {
+        idFilter = new EmployeeIdFilter(true, Duration.ofMillis(20), Duration.ofMinutes(1), 100);
+        roster = new EmployeeRoster(gateway, List.of(idFilter), Duration.ofMinutes(5));
+        employeeService = new EmployeeService(
+                gateway,
+                roster,
+                new HedgingPolicy(false, 0.95, Duration.ofMillis(5), 0.05, 1),
+                idFilter,
+                eventPublisher);
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
+        roster.snapshot();
+        // Created on the mock server by another client, so not in the roster's filter
+        final EmployeeResource created = new EmployeeResource(UUID.randomUUID(), "Carol", 90000, 40, "Ops", null);
+        when(gateway.findEmployeeById(created.getId().toString())).thenReturn(UpstreamResult.found(created));
+
+        Thread.sleep(50);
+
+        assertThat(employeeService.getEmployeeById(created.getId().toString()))
+                .isEqualTo(UpstreamResult.found(created));
+    }
+
+    @Test
+    void getEmployeeById_upstream404_cachedUntilCreated() {
+        UUID id = UUID.randomUUID();
+        when(gateway.findEmployeeById(id.toString())).thenReturn(UpstreamResult.notFound());
+
+        employeeService.getEmployeeById(id.toString());
+        employeeService.getEmployeeById(id.toString());
+        verify(gateway, times(1)).findEmployeeById(id.toString());
 
-        // Make restTemplate.exchange throw 404 Not Found
-        when(restTemplate.exchange(
-                        contains(id.toString()),
-                        eq(HttpMethod.GET),
-                        isNull(),
-                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<EmployeeResource>>>any()))
-                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        idFilter.onEmployeeCreated(new EmployeeCreatedEvent(new EmployeeResource(id, "Dan", 1, 40, "Ops", null)));
+        employeeService.getEmployeeById(id.toString());
+        verify(gateway, times(2)).findEmployeeById(id.toString());
+    }
+
+    @Test
+    void getEmployeeById_afterDelete_notFoundLocally() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
+        employeeService.getAllEmployees();
 
-        Optional<EmployeeResource> result = employeeService.getEmployeeById(id.toString());
+        roster.onEmployeeDeleted(new EmployeeDeletedEvent(emp1.getId()));
 
-        assertTrue(result.isEmpty(), "Expected empty result for non-existing employee ID");
+        assertInstanceOf(
+                UpstreamResult.NotFound.class,
+                employeeService.getEmployeeById(emp1.getId().toString()));
+        verify(gateway, never()).findEmployeeById(anyString());
     }
 
     @Test
     void getHighestSalary_success() {
-        EmployeeService spyService = spy(employeeService);
-        doReturn(List.of(emp1, emp2)).when(spyService).getAllEmployees();
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
+
+        UpstreamResult<Integer> highest = employeeService.getHighestSalary();
 
-        Optional<Integer> highest = spyService.getHighestSalary();
+        assertThat(highest).isEqualTo(UpstreamResult.found(highestSalary));
+    }
+
+    @Test
+    void getHighestSalary_noEmployees_notFound() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of()));
 
-        assertThat(highest).contains(highestSalary);
+        assertInstanceOf(UpstreamResult.NotFound.class, employeeService.getHighestSalary());
     }
 
     @Test
     void getTopTenHighestEarningEmployeeNames_success() {
         EmployeeResource emp3 =
                 new EmployeeResource(UUID.randomUUID(), "Charlie", 90000, 45, "Mgr", "charlie@cheese.com");
-        EmployeeService spyService = spy(employeeService);
-        doReturn(List.of(emp1, emp2, emp3)).when(spyService).getAllEmployees();
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(emp1, emp2, emp3)));
+
+        UpstreamResult<List<String>> top = employeeService.getTopTenHighestEarningEmployeeNames();
 
-        List<String> top = spyService.getTopTenHighestEarningEmployeeNames();
+        assertThat(top).isEqualTo(UpstreamResult.found(List.of("Alice", "Bob", "Charlie"))); // sorted descending
+    }
+
+    @Test
+    void getSalaryStatistics_success() {
+        SalaryStatistics overall = new SalaryStatistics(2, 300000, 200000, 100000, 500000, 500000, 0.01);
+        SalaryStatisticsReport report = new SalaryStatisticsReport(overall, Map.of());
+        when(gateway.salaryStatistics()).thenReturn(UpstreamResult.found(report));
 
-        assertThat(top).containsExactly("Alice", "Bob", "Charlie"); // sorted descending
+        assertThat(employeeService.getSalaryStatistics()).isEqualTo(UpstreamResult.found(report));
     }
 
     @Test
@@ -153,49 +248,79 @@ class EmployeeServiceTest {
         EmployeeCommand cmd = new EmployeeCommand("Dan", 200000, 40, "Architect");
         EmployeeResource created =
                 new EmployeeResource(UUID.randomUUID(), "Dan", 200000, 40, "Dev", "dan@building.com");
-        ApiResponse<EmployeeResource> apiResponse = new ApiResponse<>(created, ApiResponse.Status.HANDLED, null);
 
-        ResponseEntity<ApiResponse<EmployeeResource>> response = new ResponseEntity<>(apiResponse, HttpStatus.CREATED);
+        when(gateway.createEmployee(anyMap())).thenReturn(UpstreamResult.found(created));
+
+        UpstreamResult<EmployeeResource> result = employeeService.createEmployee(cmd);
 
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
-                .thenReturn(response);
+        assertThat(result).isEqualTo(UpstreamResult.found(created));
+        verify(gateway).createEmployee(Map.of("name", "Dan", "salary", 200000, "age", 40, "title", "Architect"));
+        verify(eventPublisher).publishEvent(new EmployeeCreatedEvent(created));
+    }
 
-        EmployeeResource result = employeeService.createEmployee(cmd);
+    @Test
+    void createEmployee_upstreamFailed_noEvent() {
+        EmployeeCommand cmd = new EmployeeCommand("Dan", 200000, 40, "Architect");
+        when(gateway.createEmployee(anyMap())).thenReturn(UpstreamResult.failed("Upstream answered 500"));
 
-        assertThat(result.getName()).isEqualTo("Dan");
+        assertInstanceOf(UpstreamResult.Failed.class, employeeService.createEmployee(cmd));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void createEmployee_invalidCommand_throwsException() {
         EmployeeCommand invalidCommand = new EmployeeCommand("", -100, 100, "");
 
-        Throwable thrown = assertThrows(RuntimeException.class, () -> employeeService.createEmployee(invalidCommand));
+        Throwable thrown =
+                assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployee(invalidCommand));
 
-        // Verify the cause is the expected IllegalArgumentException
-        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
-        assertEquals("Employee name is required", thrown.getCause().getMessage());
+        assertEquals("Employee name is required", thrown.getMessage());
+        verifyNoInteractions(gateway);
     }
 
     @Test
-    void deleteEmployeeById_success() {
-        // first getEmployeeById returns emp1
-        ApiResponse<EmployeeResource> apiResponse = new ApiResponse<>(emp1, ApiResponse.Status.HANDLED, null);
-        ResponseEntity<ApiResponse<EmployeeResource>> response = new ResponseEntity<>(apiResponse, HttpStatus.OK);
+    void createEmployees_success() {
+        List<EmployeeCommand> cmds = List.of(
+                new EmployeeCommand("Alice", highestSalary, 31, "Dev"), new EmployeeCommand("Bob", 100000, 33, "QA"));
+        when(gateway.createEmployees(anyList())).thenReturn(UpstreamResult.found(List.of(emp1, emp2)));
+
+        UpstreamResult<List<EmployeeResource>> result = employeeService.createEmployees(cmds);
+
+        assertThat(result).isEqualTo(UpstreamResult.found(List.of(emp1, emp2)));
+        verify(eventPublisher).publishEvent(new EmployeeCreatedEvent(emp1));
+        verify(eventPublisher).publishEvent(new EmployeeCreatedEvent(emp2));
+    }
+
+    @Test
+    void createEmployees_partialBatch_failed() {
+        List<EmployeeCommand> cmds = List.of(
+                new EmployeeCommand("Alice", highestSalary, 31, "Dev"), new EmployeeCommand("Bob", 100000, 33, "QA"));
+        when(gateway.createEmployees(anyList())).thenReturn(UpstreamResult.found(List.of(emp1)));
 
-        when(restTemplate.exchange(
-                        contains(emp1.getId().toString()),
-                        eq(HttpMethod.GET),
-                        isNull(),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(response);
+        assertInstanceOf(UpstreamResult.Failed.class, employeeService.createEmployees(cmds));
+        verifyNoInteractions(eventPublisher);
+    }
 
-        doNothing().when(restTemplate).delete(contains(emp1.getId().toString()));
+    @Test
+    void deleteEmployeeById_success() {
+        when(gateway.deleteEmployeeById(emp1.getId().toString())).thenReturn(UpstreamResult.found(emp1));
 
-        Optional<String> deleted =
+        UpstreamResult<String> deleted =
                 employeeService.deleteEmployeeById(emp1.getId().toString());
 
-        assertThat(deleted).contains("Alice");
+        assertThat(deleted).isEqualTo(UpstreamResult.found("Alice"));
+        verify(eventPublisher).publishEvent(new EmployeeDeletedEvent(emp1.getId()));
+        verify(gateway, never()).findEmployeeById(anyString());
+    }
+
+    @Test
+    void deleteEmployeeById_notFound() {
+        when(gateway.deleteEmployeeById(anyString())).thenReturn(UpstreamResult.notFound());
+
+        assertInstanceOf(
+                UpstreamResult.NotFound.class,
+                employeeService.deleteEmployeeById(UUID.randomUUID().toString()));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.roster.EmployeeCreatedEvent;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RosterSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class EmployeeCacheInterceptorTest {
+
+    @Mock
+    private EmployeeGateway gateway;
+
+    private EmployeeRoster roster;
+    private EmployeeCacheInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        roster = new EmployeeRoster(gateway, List.of(), Duration.ofMinutes(5));
+        interceptor = new EmployeeCacheInterceptor(roster, Duration.ofSeconds(60));
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(employee("Alice"))));
+    }
+
+    @Test
+    void firstRequest_setsValidators() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(get(), response, null)).isTrue();
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(EmployeeCacheInterceptor.etag(roster.version()));
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=60, must-revalidate, private");
+    }
+
+    @Test
+    void matchingIfNoneMatch_notModified() {
+        final MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get(), first, null);
+
+        final MockHttpServletRequest revalidate = get();
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(revalidate, response, null)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    void rosterChanged_staleETagServedInFull() {
+        final MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get(), first, null);
+        roster.onEmployeeCreated(new EmployeeCreatedEvent(employee("Bob")));
+
+        final MockHttpServletRequest revalidate = get();
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(revalidate, response, null)).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(first.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void upstreamUnavailable_noValidators() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.throttled(Duration.ofSeconds(1)));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(get(), response, null)).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void restoredRoster_upstreamUnavailable_servedMarkedStale() {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.failed("connection refused"));
+        roster.restore(new RosterSnapshot(7, Instant.now(), List.of(employee("Alice"))));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(get(), response, null)).isTrue();
+
+        assertThat(response.getHeader(EmployeeCacheInterceptor.STALE_HEADER)).isEqualTo("true");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(EmployeeCacheInterceptor.etag(7));
+    }
+
+    @Test
+    void freshRoster_notMarkedStale() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(get(), response, null);
+
+        assertThat(response.getHeader(EmployeeCacheInterceptor.STALE_HEADER)).isNull();
+    }
+
+    @Test
+    void zeroMaxAge_noCache() {
+        assertThat(EmployeeCacheInterceptor.cacheControl(Duration.ZERO).getHeaderValue())
+                .isEqualTo("no-cache, private");
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/employees");
+    }
+
+    private static EmployeeResource employee(final String name) {
+        return new EmployeeResource(UUID.randomUUID(), name, 100000, 30, "Dev", name + "@mail.com");
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.gateway.EmployeeGateway;
+import com.reliaquest.api.gateway.UpstreamResult;
+import com.reliaquest.api.model.EmployeeResource;
+import com.reliaquest.api.roster.EmployeeCreatedEvent;
+import com.reliaquest.api.roster.EmployeeRoster;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class EmployeeListResponseCacheTest {
+
+    @Mock
+    private EmployeeGateway gateway;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeRoster roster;
+    private EmployeeListResponseCache cache;
+    private EmployeeResource alice;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        alice = employee("Alice");
+        roster = new EmployeeRoster(gateway, List.of(), Duration.ofMinutes(5));
+        cache = new EmployeeListResponseCache(roster, objectMapper);
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.found(List.of(alice)));
+    }
+
+    @Test
+    void get_writesEncodedRoster() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(cache.preHandle(get(), response, null)).isFalse();
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(List.of(alice)));
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    void acceptsGzip_writesCompressedRoster() throws Exception {
+        final MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        cache.preHandle(request, response, null);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(body.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(List.of(alice)));
+        }
+    }
+
+    @Test
+    void encodedOncePerVersion() throws Exception {
+        cache.preHandle(get(), new MockHttpServletResponse(), null);
+        final EmployeeListResponseCache.Encoded first = cache.current();
+
+        assertThat(cache.current()).isSameAs(first);
+
+        final EmployeeResource bob = employee("Bob");
+        roster.onEmployeeCreated(new EmployeeCreatedEvent(bob));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.preHandle(get(), response, null);
+
+        assertThat(cache.current()).isNotSameAs(first);
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(List.of(alice, bob)));
+        verify(gateway, times(1)).listEmployees();
+    }
+
+    @Test
+    void nonJsonAccept_fallsThrough() throws Exception {
+        final MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile");
+
+        assertThat(cache.preHandle(request, new MockHttpServletResponse(), null))
+                .isTrue();
+        verifyNoInteractions(gateway);
+    }
+
+    @Test
+    void upstreamUnavailable_fallsThrough() throws Exception {
+        when(gateway.listEmployees()).thenReturn(UpstreamResult.failed("Upstream answered 500"));
+
+        assertThat(cache.preHandle(get(), new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    @Test
+    void acceptsGzip_parsesQuality() {
+        assertThat(EmployeeListResponseCache.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(EmployeeListResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(EmployeeListResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(EmployeeListResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/employees");
+    }
+
+    private static EmployeeResource employee(final String name) {
+        return new EmployeeResource(UUID.randomUUID(), name, 100000, 30, "Dev", name.toLowerCase() + "@mail.com");
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.common;
+
+/**
+ * Name normalization shared by the search paths: lower case letters and digits only,
+ * so "Mary-Jo O'Neil" and "maryjo oneil" compare equal. The mock server's name index uses
+ * it too, so a search pushed down to it matches the same employees as the API's own indexes.
+ */
+public final class Names {
+
+    private Names() {}
+
+    /**
+     * @param input name to normalize, may be null
+     * @return lower cased letters and digits of the input, empty for null
+     */
+    public static String normalize(final String input) {
+        if (input == null) {
+            return "";
+        }
+        final StringBuilder normalized = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); i++) {
+            final char c = Character.toLowerCase(input.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Logs how long after JVM start the context was refreshed, the application was ready
+ * and the first request was served, to compare plain, AppCDS and AOT startups.
+ * Shared by the API and the mock server, which each import it on their application class.
+ */
+@Slf4j
+public class StartupTimingReporter extends OncePerRequestFilter {
+
+    private final AtomicBoolean firstRequest = new AtomicBoolean(true);
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        if (event.getApplicationContext().getParent() == null) {
+            log.info("Startup timing: context refreshed {} ms after JVM start", uptimeMillis());
+        }
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        log.info(
+                "Startup timing: ready {} ms after JVM start (SpringApplication.run took {} ms)",
+                uptimeMillis(),
+                event.getTimeTaken().toMillis());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!firstRequest.compareAndSet(true, false)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            log.info(
+                    "Startup timing: first request {} {} answered {} ms after JVM start, took {} ms",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    uptimeMillis(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
@@ -1,9 +1,12 @@
 package com.reliaquest.server;
 
+import com.reliaquest.common.StartupTimingReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import(StartupTimingReporter.class)
 public class ServerApplication {
 
     public static void main(String[] args) {
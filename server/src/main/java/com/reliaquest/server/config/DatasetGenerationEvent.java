@@ -0,0 +1,22 @@
+package com.reliaquest.server.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for generating the initial mock roster with Faker
+ */
+@Name("com.reliaquest.server.DatasetGeneration")
+@Label("Dataset Generation")
+@Category({"ReliaQuest", "Mock Employee API"})
+@Description("Initial mock roster generated at startup")
+@StackTrace(false)
+class DatasetGenerationEvent extends Event {
+
+    @Label("Employees")
+    int employees;
+}
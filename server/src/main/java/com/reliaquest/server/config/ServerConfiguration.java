@@ -15,12 +15,11 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
@@ -30,10 +29,32 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Binary (Smile) encoding for clients that ask for it through Accept; JSON stays the default.
+     * Smile writes UUIDs as 16 raw bytes and back-references repeated property names.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter();
+    }
+
+    /*
+     * Initial roster, loaded into the shards of MockEmployeeService which owns it from then on.
      */
     @Bean
     public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+        return generate(faker, maxEmployees);
+    }
+
+    /**
+     * Initial roster for an embedded mock server, one that runs inside another application's context
+     */
+    public static List<MockEmployee> generateMockEmployees(int maxEmployees) {
+        return generate(new Faker(Locale.getDefault()), maxEmployees);
+    }
+
+    private static List<MockEmployee> generate(Faker faker, int maxEmployees) {
+        final var event = new DatasetGenerationEvent();
+        event.begin();
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -45,16 +66,12 @@ public class ServerConfiguration implements WebMvcConfigurer {
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
                                 faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
+        final List<MockEmployee> mockEmployees = IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
                 .collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        // Removing for testing purposes, tried using config to determine whether to add
-        // but I was getting a cyclic dependency fail
-        // registry.addInterceptor(new RandomRequestLimitInterceptor());
+        event.employees = mockEmployees.size();
+        event.commit();
+        return mockEmployees;
     }
 }
@@ -0,0 +1,75 @@
+package com.reliaquest.server.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.Connector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Second Tomcat connector listening on a unix domain socket, next to the TCP port, for an API on the
+ * same host (its employee.upstream.unix-socket-path). Skips TCP loopback on every call.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "mock.server.unix-socket-path")
+public class UnixSocketConfiguration {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> unixSocketConnector(
+            @Value("${mock.server.unix-socket-path}") String socketPath) {
+        return factory -> {
+            deleteStaleSocket(Path.of(socketPath));
+            final var connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setProperty("unixDomainSocketPath", socketPath);
+            factory.addAdditionalTomcatConnectors(connector);
+            log.info("Listening on unix socket {}", socketPath);
+        };
+    }
+
+    /*
+     * Tomcat removes the socket file on a clean shutdown only; after a crash the bind would fail.
+     * The file is only removed when nothing accepts connections on it, so a second instance
+     * fails to start instead of taking the socket from a running one.
+     */
+    static void deleteStaleSocket(Path socketPath) {
+        if (!Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        if (Files.isRegularFile(socketPath, LinkOption.NOFOLLOW_LINKS)
+                || Files.isDirectory(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IllegalStateException("Not a unix socket: " + socketPath);
+        }
+        if (isListening(socketPath)) {
+            throw new IllegalStateException("Unix socket " + socketPath + " is in use by another process");
+        }
+        try {
+            if (Files.deleteIfExists(socketPath)) {
+                log.debug("Removed stale unix socket {}", socketPath);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot remove stale unix socket " + socketPath, e);
+        }
+    }
+
+    private static boolean isListening(Path socketPath) {
+        try (var channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            return true;
+        } catch (IOException e) {
+            // Connection refused: the process that bound it is gone
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.FaultInjectionInterceptor;
+import com.reliaquest.server.web.FaultInjectionProperties;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.SlowResponseFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Request interceptors, kept apart from ServerConfiguration's data beans so that wiring them
+ * from properties doesn't pull the MVC configuration into a cycle.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(FaultInjectionProperties.class)
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final FaultInjectionProperties faults;
+    private final boolean rateLimiterEnabled;
+
+    public WebConfiguration(
+            FaultInjectionProperties faults, @Value("${rate.limiter.enabled:false}") boolean rateLimiterEnabled) {
+        this.faults = faults;
+        this.rateLimiterEnabled = rateLimiterEnabled;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (rateLimiterEnabled) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor());
+        }
+        if (faults.isEnabled()) {
+            log.info("Fault injection enabled with {} rules", faults.getRules().size());
+            registry.addInterceptor(new FaultInjectionInterceptor(faults));
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.faults.enabled", havingValue = "true")
+    public SlowResponseFilter slowResponseFilter() {
+        return new SlowResponseFilter();
+    }
+}
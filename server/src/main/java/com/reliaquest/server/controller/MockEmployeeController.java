@@ -1,22 +1,32 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.CreateMockEmployeeBatchInput;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.ImportResult;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.SalaryStatisticsReport;
+import com.reliaquest.server.service.MockEmployeeImporter;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,12 +35,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final MockEmployeeImporter mockEmployeeImporter;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
+    public Response<List<MockEmployee>> getEmployees(
+            @RequestParam(name = "nameContains", required = false) String nameContains) {
+        if (nameContains != null) {
+            return Response.handledWith(mockEmployeeService.findByNameContaining(nameContains));
+        }
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    @GetMapping("/top-salaries")
+    public ResponseEntity<Response<List<MockEmployee>>> getTopSalaries(
+            @RequestParam(name = "n", defaultValue = "10") int n) {
+        if (n < 1 || n > 1000) {
+            return ResponseEntity.badRequest().body(Response.error("n must be between 1 and 1000"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.findTopBySalary(n)));
+    }
+
+    @GetMapping("/stats/salary")
+    public Response<SalaryStatisticsReport> getSalaryStatistics() {
+        return Response.handledWith(mockEmployeeService.salaryStatistics());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
@@ -44,8 +73,36 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeeBatchInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
+    /**
+     * Bulk import of newline-delimited CreateMockEmployeeInput JSON, optionally gzip compressed.
+     * The body is streamed, never held in memory as a whole.
+     */
+    @PostMapping(
+            path = "/import",
+            consumes = {"application/x-ndjson", "application/gzip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public Response<ImportResult> importEmployees(
+            @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request)
+            throws IOException {
+        return Response.handledWith(
+                mockEmployeeImporter.importFrom(request.getInputStream(), "gzip".equalsIgnoreCase(contentEncoding)));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
 }
@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Errors are reported for the first rejected lines only.
+ */
+public record ImportResult(long accepted, long rejected, List<LineError> errors) {
+
+    public record LineError(long line, String message) {}
+}
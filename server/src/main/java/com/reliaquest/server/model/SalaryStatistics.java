@@ -0,0 +1,7 @@
+package com.reliaquest.server.model;
+
+/**
+ * Salary aggregates; percentiles are approximate, within relativeAccuracy of the true value.
+ */
+public record SalaryStatistics(
+        long count, double mean, double stddev, Integer p50, Integer p90, Integer p99, double relativeAccuracy) {}
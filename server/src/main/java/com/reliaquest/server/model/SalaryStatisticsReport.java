@@ -0,0 +1,5 @@
+package com.reliaquest.server.model;
+
+import java.util.Map;
+
+public record SalaryStatisticsReport(SalaryStatistics overall, Map<String, SalaryStatistics> byTitle) {}
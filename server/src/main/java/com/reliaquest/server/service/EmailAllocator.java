@@ -0,0 +1,41 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+/**
+ * Hands out unique email addresses. The first claim on a user name gets it as is,
+ * later ones get a numbered variant; addresses are freed again when employees are deleted.
+ */
+class EmailAllocator {
+
+    private final Set<String> taken = ConcurrentHashMap.newKeySet();
+
+    // Only touched on collisions, so it isn't a contention point on the common path
+    private final AtomicLong collisions = new AtomicLong();
+
+    String allocate(@NonNull String userName) {
+        final var localPart = userName.toLowerCase();
+        var email = ServerConfiguration.EMAIL_TEMPLATE.formatted(localPart);
+        while (!taken.add(email)) {
+            email = ServerConfiguration.EMAIL_TEMPLATE.formatted(localPart + "." + collisions.incrementAndGet());
+        }
+        return email;
+    }
+
+    /**
+     * @return false if the address is already taken
+     */
+    boolean claim(@NonNull String email) {
+        return taken.add(email);
+    }
+
+    void release(String email) {
+        if (email != null) {
+            taken.remove(email);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+/**
+ * One hash partition of the roster, with its own lock, name index and salary statistics.
+ * Employees carry the roster-wide sequence they were added with, so scans can be merged
+ * back into insertion order.
+ */
+class EmployeeShard {
+
+    static final Comparator<MockEmployee> BY_SALARY =
+            Comparator.comparing(MockEmployee::getSalary, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    static final Comparator<Sequenced> BY_SEQUENCE = Comparator.comparingLong(Sequenced::sequence);
+
+    /**
+     * An employee and its position in the roster's insertion order
+     */
+    record Sequenced(long sequence, MockEmployee employee) {}
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Iterates close to sequence order, which keeps merging shards cheap
+    private final Map<UUID, Sequenced> employees = new LinkedHashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final SalaryStatisticsTracker salaryStatistics = new SalaryStatisticsTracker();
+
+    /**
+     * @return false when the employee replaced one with the same id
+     */
+    boolean add(@NonNull Sequenced employee) {
+        lock.writeLock().lock();
+        try {
+            return put(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds several employees under one lock acquisition
+     * @return how many were new rather than replacing one with the same id
+     */
+    int addAll(@NonNull List<Sequenced> batch) {
+        lock.writeLock().lock();
+        try {
+            int added = 0;
+            for (Sequenced employee : batch) {
+                if (put(employee)) {
+                    added++;
+                }
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Optional<MockEmployee> remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            final var removed = employees.remove(id);
+            if (removed == null) {
+                return Optional.empty();
+            }
+            nameIndex.remove(removed.employee());
+            salaryStatistics.remove(removed.employee());
+            return Optional.of(removed.employee());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Optional<MockEmployee> find(UUID id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(employees.get(id)).map(Sequenced::employee);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the earliest added employee matching the predicate
+     */
+    Optional<Sequenced> findFirst(Predicate<MockEmployee> predicate) {
+        lock.readLock().lock();
+        try {
+            return employees.values().stream()
+                    .filter(employee -> predicate.test(employee.employee()))
+                    .min(BY_SEQUENCE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Sequenced> list() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(employees.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Sequenced> searchByName(String query) {
+        lock.readLock().lock();
+        try {
+            return nameIndex.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to n employees with the highest salaries, highest first
+     */
+    List<MockEmployee> topBySalary(int n) {
+        final var heap = new PriorityQueue<>(n + 1, BY_SALARY);
+        lock.readLock().lock();
+        try {
+            for (Sequenced sequenced : employees.values()) {
+                final var employee = sequenced.employee();
+                if (Objects.isNull(employee.getSalary())) {
+                    continue;
+                }
+                heap.offer(employee);
+                if (heap.size() > n) {
+                    heap.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        final var top = new ArrayList<>(heap);
+        top.sort(BY_SALARY.reversed());
+        return top;
+    }
+
+    /**
+     * A replaced employee moves to the end, as if it had been removed and added again
+     */
+    private boolean put(Sequenced employee) {
+        final var previous = employees.remove(employee.employee().getId());
+        if (previous != null) {
+            nameIndex.remove(previous.employee());
+            salaryStatistics.remove(previous.employee());
+        }
+        employees.put(employee.employee().getId(), employee);
+        nameIndex.add(employee);
+        salaryStatistics.add(employee.employee());
+        return previous == null;
+    }
+
+    void mergeStatisticsInto(SalaryStatisticsTracker target) {
+        lock.readLock().lock();
+        try {
+            salaryStatistics.mergeInto(target);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
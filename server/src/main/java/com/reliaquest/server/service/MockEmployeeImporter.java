@@ -0,0 +1,127 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.ImportResult;
+import jakarta.validation.Validator;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams newline-delimited JSON employees into {@link MockEmployeeService}. Lines are parsed and
+ * validated one at a time and inserted in batches, so memory stays flat whatever the input size.
+ */
+@Slf4j
+@Service
+public class MockEmployeeImporter {
+
+    // Enough to point at what's wrong with a file without echoing all of a bad one back
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Validator validator;
+    private final ObjectReader reader;
+    private final int batchSize;
+
+    public MockEmployeeImporter(
+            MockEmployeeService mockEmployeeService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${mock.import.batch-size:1000}") int batchSize) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(CreateMockEmployeeInput.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param body NDJSON, gzip compressed or not
+     * @param gzip whether the body is known to be gzip compressed; otherwise it's sniffed
+     */
+    public ImportResult importFrom(@NonNull InputStream body, boolean gzip) throws IOException {
+        final var input = new BufferedInputStream(body);
+        final var decoded = gzip || isGzip(input) ? new GZIPInputStream(input) : input;
+        final var lines = new BufferedReader(new InputStreamReader(decoded, StandardCharsets.UTF_8));
+
+        final var batch = new ArrayList<CreateMockEmployeeInput>(batchSize);
+        final var errors = new ArrayList<ImportResult.LineError>();
+        long lineNumber = 0;
+        long accepted = 0;
+        long rejected = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            final var error = parse(line, batch);
+            if (error != null) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ImportResult.LineError(lineNumber, error));
+                }
+            } else if (batch.size() == batchSize) {
+                accepted += flush(batch);
+            }
+        }
+        accepted += flush(batch);
+
+        log.info("Imported {} employees, rejected {}", accepted, rejected);
+        return new ImportResult(accepted, rejected, errors);
+    }
+
+    /**
+     * @return why the line was rejected, null if it was added to the batch
+     */
+    private String parse(String line, List<CreateMockEmployeeInput> batch) {
+        final CreateMockEmployeeInput input;
+        try {
+            input = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return "Invalid JSON: " + e.getOriginalMessage();
+        }
+        if (input == null) {
+            return "Expected a JSON object";
+        }
+        final var violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        batch.add(input);
+        return null;
+    }
+
+    private int flush(List<CreateMockEmployeeInput> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final int created = mockEmployeeService.createAll(batch).size();
+        batch.clear();
+        return created;
+    }
+
+    private static boolean isGzip(BufferedInputStream input) throws IOException {
+        input.mark(2);
+        final int first = input.read();
+        final int second = input.read();
+        input.reset();
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == (GZIPInputStream.GZIP_MAGIC >>> 8);
+    }
+}
@@ -1,58 +1,256 @@
 package com.reliaquest.server.service;
 
-import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.common.Names;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SalaryStatisticsReport;
+import com.reliaquest.server.service.EmployeeShard.Sequenced;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Mock roster partitioned into shards by UUID hash. Point lookups and writes only lock their
+ * shard; full scans run on every shard in parallel and merge the results.
+ *
+ * Scans keep insertion order, like the list this replaced: every employee takes a number from one
+ * roster-wide sequence when it's added, and shard results are merged on it. Listing, name search
+ * and delete by name are therefore deterministic.
+ *
+ * Creates share little on the common path: each thread has its own Faker, ids come from
+ * ThreadLocalRandom, emails are claimed in a concurrent set and a batch takes its sequence
+ * numbers in one step.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
-    private final Faker faker;
+    // Below this many employees a scan is cheaper than handing it to the pool
+    private static final int PARALLEL_SCAN_THRESHOLD = 4096;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    // Faker keeps mutable state and isn't safe to share between request threads
+    private final ThreadLocal<Faker> fakers = ThreadLocal.withInitial(() -> new Faker(Locale.getDefault()));
+
+    private final EmailAllocator emails = new EmailAllocator();
+    private final EmployeeShard[] shards;
+    private final ForkJoinPool scanPool;
+    private final LongAdder size = new LongAdder();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public MockEmployeeService(List<MockEmployee> mockEmployees, @Value("${mock.employees.shards:0}") int shardCount) {
+        final var parallelism = Runtime.getRuntime().availableProcessors();
+        this.shards = new EmployeeShard[shardCount > 0 ? shardCount : parallelism];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new EmployeeShard();
+        }
+        this.scanPool = new ForkJoinPool(Math.min(parallelism, shards.length));
+        for (MockEmployee mockEmployee : mockEmployees) {
+            if (mockEmployee.getEmail() != null && !emails.claim(mockEmployee.getEmail())) {
+                mockEmployee.setEmail(emails.allocate(mockEmployee.getEmail().split("@")[0]));
+            }
+            add(mockEmployee);
+        }
+        log.debug("Loaded {} employees into {} shards", size.sum(), shards.length);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanPool.shutdown();
+    }
+
+    /**
+     * @return every employee, in insertion order
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return inSequence(scatterGather(EmployeeShard::list));
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return shardFor(uuid).find(uuid);
+    }
+
+    /**
+     * Employees whose normalized name contains the normalized query, see {@link Names#normalize(String)},
+     * in insertion order.
+     */
+    public List<MockEmployee> findByNameContaining(@NonNull String query) {
+        return inSequence(scatterGather(shard -> shard.searchByName(query)));
+    }
+
+    /**
+     * @return up to n employees with the highest salaries, highest first
+     */
+    public List<MockEmployee> findTopBySalary(int n) {
+        final var candidates = scatterGather(shard -> shard.topBySalary(n));
+        candidates.sort(EmployeeShard.BY_SALARY.reversed());
+        return candidates.size() > n ? new ArrayList<>(candidates.subList(0, n)) : candidates;
+    }
+
+    public SalaryStatisticsReport salaryStatistics() {
+        final var total = new SalaryStatisticsTracker();
+        for (EmployeeShard shard : shards) {
+            shard.mergeStatisticsInto(total);
+        }
+        return total.report();
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var event = new StoreMutationEvent();
+        event.begin();
+        final var mockEmployee =
+                MockEmployee.from(randomUuid(), emails.allocate(fakers.get().twitter().userName()), input);
+        add(mockEmployee);
+        event.complete("create", 1, size.sum());
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates a batch of employees, taking each shard's lock once for its share of the batch
+     * @return the created employees, in input order
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var event = new StoreMutationEvent();
+        event.begin();
+        final var faker = fakers.get();
+        final var created = new ArrayList<MockEmployee>(inputs.size());
+        final List<List<Sequenced>> byShard = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            byShard.add(new ArrayList<>());
+        }
+        long next = sequence.getAndAdd(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            final var mockEmployee =
+                    MockEmployee.from(randomUuid(), emails.allocate(faker.twitter().userName()), input);
+            created.add(mockEmployee);
+            byShard.get(shardIndex(mockEmployee.getId())).add(new Sequenced(next++, mockEmployee));
+        }
+        for (int i = 0; i < shards.length; i++) {
+            if (!byShard.get(i).isEmpty()) {
+                size.add(shards[i].addAll(byShard.get(i)));
+            }
+        }
+        event.complete("createAll", created.size(), size.sum());
+        log.debug("Added batch of {} employees", created.size());
+        return created;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
+        final var event = new StoreMutationEvent();
+        event.begin();
+        // The earliest added match, as the first match in the unsharded list was
+        final var matches = scatterGather(shard -> shard.findFirst(employee -> Objects.nonNull(employee.getName())
                         && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+                .stream()
+                .toList());
+        final var mockEmployee = matches.stream()
+                .min(EmployeeShard.BY_SEQUENCE)
+                .map(match -> match.employee().getId())
+                .flatMap(id -> shardFor(id).remove(id));
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
+            size.decrement();
+            emails.release(mockEmployee.get().getEmail());
+            event.complete("delete", 1, size.sum());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
+        event.complete("delete", 0, size.sum());
         return false;
     }
+
+    /**
+     * Removes the employee with the given id in a single step
+     * @return the removed employee, empty if there was none
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var event = new StoreMutationEvent();
+        event.begin();
+        final var mockEmployee = shardFor(uuid).remove(uuid);
+        mockEmployee.ifPresent(employee -> {
+            size.decrement();
+            emails.release(employee.getEmail());
+            log.debug("Removed employee: {}", employee);
+        });
+        event.complete("deleteById", mockEmployee.isPresent() ? 1 : 0, size.sum());
+        return mockEmployee;
+    }
+
+    private void add(MockEmployee mockEmployee) {
+        if (shardFor(mockEmployee.getId()).add(new Sequenced(sequence.getAndIncrement(), mockEmployee))) {
+            size.increment();
+        }
+    }
+
+    /**
+     * Version 4 UUID from ThreadLocalRandom; UUID.randomUUID() serializes callers on SecureRandom.
+     * Good enough for mock ids, not for anything that has to be unguessable.
+     */
+    private static UUID randomUuid() {
+        final var random = ThreadLocalRandom.current();
+        final long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private EmployeeShard shardFor(UUID uuid) {
+        return shards[shardIndex(uuid)];
+    }
+
+    private int shardIndex(UUID uuid) {
+        final int hash = Objects.hashCode(uuid);
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    /**
+     * Merges shard results back into insertion order. Each shard's results are mostly in sequence
+     * already, and the sort merges such runs in close to linear time.
+     */
+    private static List<MockEmployee> inSequence(List<Sequenced> results) {
+        results.sort(EmployeeShard.BY_SEQUENCE);
+        final var employees = new ArrayList<MockEmployee>(results.size());
+        for (Sequenced result : results) {
+            employees.add(result.employee());
+        }
+        return employees;
+    }
+
+    /**
+     * Runs the query against every shard, in parallel on the scan pool for large rosters,
+     * and concatenates the results
+     */
+    private <T> List<T> scatterGather(Function<EmployeeShard, List<T>> query) {
+        final var results = new ArrayList<T>();
+        if (shards.length == 1 || size.sum() < PARALLEL_SCAN_THRESHOLD) {
+            for (EmployeeShard shard : shards) {
+                results.addAll(query.apply(shard));
+            }
+            return results;
+        }
+
+        final var tasks = new ArrayList<ForkJoinTask<List<T>>>(shards.length);
+        for (EmployeeShard shard : shards) {
+            tasks.add(scanPool.submit(() -> query.apply(shard)));
+        }
+        for (ForkJoinTask<List<T>> task : tasks) {
+            results.addAll(task.join());
+        }
+        return results;
+    }
 }
@@ -0,0 +1,91 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.common.Names;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeShard.Sequenced;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+
+/**
+ * Trigram index over employee names normalized by {@link Names}, so nameContains queries only look at
+ * employees holding the search string's rarest trigram instead of the whole roster.
+ * Not thread safe; guarded by the owning {@link EmployeeShard}'s lock.
+ */
+class NameIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+
+    void add(@NonNull Sequenced sequenced) {
+        final var employee = sequenced.employee();
+        if (Objects.isNull(employee.getId())) {
+            return;
+        }
+        final var normalized = Names.normalize(employee.getName());
+        entries.put(employee.getId(), new Entry(normalized, sequenced));
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            postings.computeIfAbsent(normalized.substring(i, i + GRAM), ignored -> new HashSet<>())
+                    .add(employee.getId());
+        }
+    }
+
+    void remove(@NonNull MockEmployee employee) {
+        if (Objects.isNull(employee.getId())) {
+            return;
+        }
+        final var entry = entries.remove(employee.getId());
+        if (entry == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM <= entry.normalized().length(); i++) {
+            postings.computeIfPresent(entry.normalized().substring(i, i + GRAM), (gram, ids) -> {
+                ids.remove(employee.getId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * @return the matches in insertion order
+     */
+    List<Sequenced> search(String query) {
+        final var normalized = Names.normalize(query);
+        final var matches = new ArrayList<Sequenced>();
+        if (normalized.length() < GRAM) {
+            entries.values().stream()
+                    .filter(entry -> !entry.normalized().isEmpty()
+                            && entry.normalized().contains(normalized))
+                    .forEach(entry -> matches.add(entry.employee()));
+            matches.sort(EmployeeShard.BY_SEQUENCE);
+            return matches;
+        }
+
+        // Walk the rarest trigram's postings, the containment check below covers the rest
+        final var candidates = IntStream.rangeClosed(0, normalized.length() - GRAM)
+                .mapToObj(i -> postings.getOrDefault(normalized.substring(i, i + GRAM), Set.<UUID>of()))
+                .min(Comparator.comparingInt(Set::size))
+                .orElseGet(Set::of);
+        for (UUID id : candidates) {
+            final var entry = entries.get(id);
+            if (entry != null && entry.normalized().contains(normalized)) {
+                matches.add(entry.employee());
+            }
+        }
+        // Postings are hash sets
+        matches.sort(EmployeeShard.BY_SEQUENCE);
+        return matches;
+    }
+
+    private record Entry(String normalized, Sequenced employee) {}
+}
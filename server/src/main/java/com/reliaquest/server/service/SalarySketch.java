@@ -0,0 +1,119 @@
+package com.reliaquest.server.service;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch over salaries with logarithmic buckets (DDSketch style).
+ *
+ * Unlike t-digest or KLL, bucket counts can be decremented, so employees can be
+ * removed as well as added. Quantiles are within {@link #RELATIVE_ACCURACY} of the
+ * true value; count, mean and standard deviation are exact up to floating point.
+ * Not thread safe.
+ */
+class SalarySketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+
+    private long count;
+    private long sum;
+    private double sumOfSquares;
+
+    void add(int salary) {
+        update(salary, 1);
+    }
+
+    void remove(int salary) {
+        update(salary, -1);
+    }
+
+    void merge(SalarySketch other) {
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                bucket(other.offset + i);
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    double stddev() {
+        if (count == 0) {
+            return 0;
+        }
+        final double mean = mean();
+        return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+    }
+
+    /**
+     * @param q quantile between 0 and 1
+     * @return estimated salary at the quantile, null when empty
+     */
+    Integer quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        final long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return (int) Math.round(2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1));
+            }
+        }
+        return null;
+    }
+
+    private void update(int salary, int delta) {
+        count += delta;
+        sum += (long) salary * delta;
+        sumOfSquares += (double) salary * salary * delta;
+        if (salary <= 0) {
+            zeroCount += delta;
+            return;
+        }
+        final int index = (int) Math.ceil(Math.log(salary) / LOG_GAMMA);
+        bucket(index);
+        counts[index - offset] += delta;
+    }
+
+    /**
+     * Grows the dense bucket array so that it covers the given bucket index
+     */
+    private void bucket(int index) {
+        if (counts.length == 0) {
+            counts = new long[8];
+            offset = index;
+            return;
+        }
+        if (index < offset) {
+            final int shift = offset - index;
+            final long[] grown = new long[counts.length + shift];
+            System.arraycopy(counts, 0, grown, shift, counts.length);
+            counts = grown;
+            offset = index;
+        } else if (index - offset >= counts.length) {
+            counts = Arrays.copyOf(counts, index - offset + 1);
+        }
+    }
+}
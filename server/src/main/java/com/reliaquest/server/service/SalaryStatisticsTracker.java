@@ -0,0 +1,71 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SalaryStatistics;
+import com.reliaquest.server.model.SalaryStatisticsReport;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.NonNull;
+
+/**
+ * Running salary statistics, overall and per title, maintained on every create and delete.
+ * Each {@link EmployeeShard} keeps its own, guarded by the shard's lock, and reports merge them.
+ */
+class SalaryStatisticsTracker {
+
+    private final SalarySketch overall = new SalarySketch();
+    private final Map<String, SalarySketch> byTitle = new HashMap<>();
+
+    void add(@NonNull MockEmployee employee) {
+        if (Objects.isNull(employee.getSalary())) {
+            return;
+        }
+        overall.add(employee.getSalary());
+        if (Objects.nonNull(employee.getTitle())) {
+            byTitle.computeIfAbsent(employee.getTitle(), ignored -> new SalarySketch())
+                    .add(employee.getSalary());
+        }
+    }
+
+    void remove(@NonNull MockEmployee employee) {
+        if (Objects.isNull(employee.getSalary())) {
+            return;
+        }
+        overall.remove(employee.getSalary());
+        if (Objects.nonNull(employee.getTitle())) {
+            final var sketch = byTitle.get(employee.getTitle());
+            if (sketch != null) {
+                sketch.remove(employee.getSalary());
+                if (sketch.count() == 0) {
+                    byTitle.remove(employee.getTitle());
+                }
+            }
+        }
+    }
+
+    void mergeInto(SalaryStatisticsTracker target) {
+        target.overall.merge(overall);
+        byTitle.forEach((title, sketch) -> target.byTitle
+                .computeIfAbsent(title, ignored -> new SalarySketch())
+                .merge(sketch));
+    }
+
+    SalaryStatisticsReport report() {
+        final var titles = new TreeMap<String, SalaryStatistics>();
+        byTitle.forEach((title, sketch) -> titles.put(title, statistics(sketch)));
+        return new SalaryStatisticsReport(statistics(overall), titles);
+    }
+
+    private static SalaryStatistics statistics(SalarySketch sketch) {
+        return new SalaryStatistics(
+                sketch.count(),
+                sketch.mean(),
+                sketch.stddev(),
+                sketch.quantile(0.5),
+                sketch.quantile(0.9),
+                sketch.quantile(0.99),
+                SalarySketch.RELATIVE_ACCURACY);
+    }
+}
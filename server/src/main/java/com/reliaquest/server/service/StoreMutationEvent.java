@@ -0,0 +1,40 @@
+package com.reliaquest.server.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a write to the mock roster held by {@link MockEmployeeService}
+ */
+@Name("com.reliaquest.server.StoreMutation")
+@Label("Store Mutation")
+@Category({"ReliaQuest", "Mock Employee API"})
+@Description("Employees added to or removed from the mock roster")
+@StackTrace(false)
+class StoreMutationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Employees")
+    @Description("Employees added or removed")
+    int employees;
+
+    @Label("Roster Size")
+    @Description("Employees in the roster afterwards")
+    long size;
+
+    void complete(String operation, int employees, long size) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.employees = employees;
+            this.size = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Injects latency, errors, 429 bursts and slow bodies into matching requests, driven by
+ * {@link FaultInjectionProperties}. Used to reproduce production tail latency locally.
+ */
+@Slf4j
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    private final FaultInjectionProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public FaultInjectionInterceptor(FaultInjectionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        final var rule = matchingRule(request);
+        if (rule == null) {
+            return true;
+        }
+
+        final var delay = sampleLatency(rule.getLatency());
+        if (!delay.isZero()) {
+            Thread.sleep(delay.toMillis());
+        }
+
+        if (isThrottled(rule.getThrottle())) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(
+                    HttpHeaders.RETRY_AFTER,
+                    String.valueOf(
+                            Math.max(1, rule.getThrottle().getRetryAfter().toSeconds())));
+            return false;
+        }
+
+        if (rule.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < rule.getErrorRate()) {
+            log.debug("Injecting {} into {} {}", rule.getErrorStatus(), request.getMethod(), request.getRequestURI());
+            response.setStatus(rule.getErrorStatus());
+            return false;
+        }
+
+        if (rule.getBodyBytesPerSecond() > 0) {
+            request.setAttribute(SlowResponseFilter.BYTES_PER_SECOND_ATTRIBUTE, rule.getBodyBytesPerSecond());
+        }
+        return true;
+    }
+
+    private FaultInjectionProperties.Rule matchingRule(HttpServletRequest request) {
+        final var path = request.getRequestURI();
+        for (FaultInjectionProperties.Rule rule : properties.getRules()) {
+            if ((rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(rule.getPath(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    static Duration sampleLatency(FaultInjectionProperties.Latency latency) {
+        final var random = ThreadLocalRandom.current();
+        final long nanos =
+                switch (latency.getDistribution()) {
+                    case NONE -> 0;
+                    case FIXED -> latency.getFixed().toNanos();
+                    case UNIFORM -> {
+                        final long min = latency.getMin().toNanos();
+                        final long max = latency.getMax() == null
+                                ? min
+                                : latency.getMax().toNanos();
+                        yield max > min ? random.nextLong(min, max) : min;
+                    }
+                    case LOGNORMAL -> {
+                        final long sample = (long)
+                                (latency.getMedian().toNanos() * Math.exp(latency.getSigma() * random.nextGaussian()));
+                        yield latency.getMax() == null
+                                ? sample
+                                : Math.min(sample, latency.getMax().toNanos());
+                    }
+                };
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Throttled for the first duration of every period, on the wall clock so all threads agree
+     */
+    static boolean isThrottled(FaultInjectionProperties.Throttle throttle) {
+        if (throttle.getPeriod() == null || throttle.getPeriod().isZero()) {
+            return false;
+        }
+        return System.currentTimeMillis() % throttle.getPeriod().toMillis()
+                < throttle.getDuration().toMillis();
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Faults to inject per endpoint, see application-chaos.yml. The first rule matching a request applies.
+ */
+@Data
+@ConfigurationProperties("mock.faults")
+public class FaultInjectionProperties {
+
+    private boolean enabled;
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /** Ant-style pattern matched against the request path */
+        private String path = "/**";
+
+        /** HTTP method to match, any when unset */
+        private String method;
+
+        private Latency latency = new Latency();
+
+        /** Share of requests, 0 to 1, answered with errorStatus instead of being handled */
+        private double errorRate;
+
+        private int errorStatus = 500;
+
+        private Throttle throttle = new Throttle();
+
+        /** Response bodies are written at this rate, unthrottled when 0 */
+        private int bodyBytesPerSecond;
+    }
+
+    @Data
+    public static class Latency {
+
+        private Distribution distribution = Distribution.NONE;
+
+        /** FIXED delay */
+        private Duration fixed = Duration.ZERO;
+
+        /** UNIFORM bounds; max also caps LOGNORMAL samples when set */
+        private Duration min = Duration.ZERO;
+
+        private Duration max;
+
+        /** LOGNORMAL median and shape; sigma around 0.5 gives a p99 about 3x the median */
+        private Duration median = Duration.ZERO;
+
+        private double sigma = 0.5;
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        UNIFORM,
+        LOGNORMAL
+    }
+
+    /**
+     * Recurring 429 bursts: every period, all matching requests are throttled for duration
+     */
+    @Data
+    public static class Throttle {
+
+        private Duration period;
+
+        private Duration duration = Duration.ZERO;
+
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 /**
- * I havent been quite sure how to turn this off for testing
+ * Only registered with rate.limiter.enabled=true, see WebConfiguration
  */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
@@ -0,0 +1,138 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Trickles response bodies out at the rate {@link FaultInjectionInterceptor} put on the request.
+ * The rate is only read once the body is written, after the interceptor ran; other responses
+ * pass straight through. Message converters write through the output stream, so the writer is left alone.
+ *
+ * Writes are buffered into slices and each slice is released with a pause for its size, so the
+ * rate holds however the body is written, byte by byte or in one array.
+ */
+public class SlowResponseFilter extends OncePerRequestFilter {
+
+    static final String BYTES_PER_SECOND_ATTRIBUTE = SlowResponseFilter.class.getName() + ".bytesPerSecond";
+
+    // Bytes are released in slices, ten per second
+    private static final int SLICES_PER_SECOND = 10;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new SlowResponse(request, response));
+    }
+
+    private static class SlowResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private ServletOutputStream outputStream;
+
+        SlowResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            final var bytesPerSecond = request.getAttribute(BYTES_PER_SECOND_ATTRIBUTE);
+            if (!(bytesPerSecond instanceof Integer rate)) {
+                return super.getOutputStream();
+            }
+            if (outputStream == null) {
+                outputStream = new ThrottledOutputStream(super.getOutputStream(), rate);
+            }
+            return outputStream;
+        }
+    }
+
+    private static class ThrottledOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final int bytesPerSecond;
+        private final byte[] slice;
+        private int buffered;
+
+        ThrottledOutputStream(ServletOutputStream delegate, int bytesPerSecond) {
+            this.delegate = delegate;
+            this.bytesPerSecond = Math.max(1, bytesPerSecond);
+            this.slice = new byte[Math.max(1, bytesPerSecond / SLICES_PER_SECOND)];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            slice[buffered++] = (byte) b;
+            if (buffered == slice.length) {
+                release();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            int written = 0;
+            while (written < length) {
+                final int copied = Math.min(slice.length - buffered, length - written);
+                System.arraycopy(bytes, offset + written, slice, buffered, copied);
+                buffered += copied;
+                written += copied;
+                if (buffered == slice.length) {
+                    release();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            release();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            release();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        /**
+         * Sends the buffered bytes, then waits as long as they take at the configured rate
+         */
+        private void release() throws IOException {
+            if (buffered == 0) {
+                return;
+            }
+            delegate.write(slice, 0, buffered);
+            delegate.flush();
+            final long pauseMillis = 1000L * buffered / bytesPerSecond;
+            buffered = 0;
+            pause(pauseMillis);
+        }
+
+        private static void pause(long millis) throws InterruptedIOException {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling response body");
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UnixSocketConfigurationTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void deleteStaleSocket_nobodyListening_deleted() throws Exception {
+        final var socket = dir.resolve("mock.sock");
+        // Closing the channel leaves the file behind, as a crashed server would
+        try (var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+        }
+        assertThat(socket).exists();
+
+        UnixSocketConfiguration.deleteStaleSocket(socket);
+
+        assertThat(socket).doesNotExist();
+    }
+
+    @Test
+    void deleteStaleSocket_inUse_failsAndKeepsSocket() throws Exception {
+        final var socket = dir.resolve("mock.sock");
+        try (var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+
+            assertThatThrownBy(() -> UnixSocketConfiguration.deleteStaleSocket(socket))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("in use");
+            assertThat(socket).exists();
+        }
+    }
+
+    @Test
+    void deleteStaleSocket_regularFile_failsAndKeepsFile() throws Exception {
+        final var file = Files.writeString(dir.resolve("mock.sock"), "data");
+
+        assertThatThrownBy(() -> UnixSocketConfiguration.deleteStaleSocket(file))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(file).hasContent("data");
+    }
+
+    @Test
+    void deleteStaleSocket_missing_nothingToDo() {
+        UnixSocketConfiguration.deleteStaleSocket(dir.resolve("mock.sock"));
+
+        assertThat(dir.resolve("mock.sock")).doesNotExist();
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class EmailAllocatorTest {
+
+    private final EmailAllocator emails = new EmailAllocator();
+
+    @Test
+    void allocate_collisionsGetNumberedVariants() {
+        assertThat(emails.allocate("JDoe")).isEqualTo("jdoe@company.com");
+        assertThat(emails.allocate("jdoe")).isEqualTo("jdoe.1@company.com");
+        assertThat(emails.allocate("jdoe")).isEqualTo("jdoe.2@company.com");
+    }
+
+    @Test
+    void release_freesAddress() {
+        final var email = emails.allocate("jdoe");
+        assertThat(emails.claim(email)).isFalse();
+
+        emails.release(email);
+
+        assertThat(emails.claim(email)).isTrue();
+        emails.release(null);
+    }
+
+    @Test
+    void allocate_concurrentSameUserName_unique() throws Exception {
+        final int threads = 8;
+        final int perThread = 2_000;
+        final var allocated = new ConcurrentLinkedQueue<String>();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        allocated.add(emails.allocate(i % 2 == 0 ? "jdoe" : "user" + i));
+                    }
+                    return null;
+                });
+            }
+            final var futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(allocated).hasSize(threads * perThread).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SalaryStatistics;
+import com.reliaquest.server.service.EmployeeShard.Sequenced;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeShardTest {
+
+    private final EmployeeShard shard = new EmployeeShard();
+
+    @Test
+    void add_sameId_replacesEmployeeAndIndexes() {
+        final var id = UUID.randomUUID();
+        assertThat(shard.add(new Sequenced(0, employee(id, "Alice", 1000)))).isTrue();
+        final var renamed = employee(id, "Bob", 2000);
+
+        assertThat(shard.add(new Sequenced(1, renamed))).isFalse();
+
+        assertThat(shard.find(id)).contains(renamed);
+        assertThat(shard.searchByName("alice")).isEmpty();
+        assertThat(shard.searchByName("bob")).extracting(Sequenced::employee).containsExactly(renamed);
+        assertThat(statistics().count()).isEqualTo(1);
+        assertThat(statistics().mean()).isEqualTo(2000);
+    }
+
+    @Test
+    void remove_dropsEmployeeFromIndexes() {
+        final var alice = employee(UUID.randomUUID(), "Alice", 1000);
+        final var bob = employee(UUID.randomUUID(), "Bob", 3000);
+        shard.addAll(List.of(new Sequenced(0, alice), new Sequenced(1, bob)));
+
+        assertThat(shard.remove(alice.getId())).contains(alice);
+        assertThat(shard.remove(alice.getId())).isEmpty();
+
+        assertThat(shard.list()).extracting(Sequenced::employee).containsExactly(bob);
+        assertThat(shard.searchByName("alice")).isEmpty();
+        assertThat(statistics().count()).isEqualTo(1);
+        assertThat(statistics().mean()).isEqualTo(3000);
+    }
+
+    @Test
+    void findFirst_earliestSequenceWins() {
+        // Concurrent creates can reach a shard out of sequence order
+        final var later = employee(UUID.randomUUID(), "Alice", 1000);
+        final var earlier = employee(UUID.randomUUID(), "alice", 2000);
+        shard.add(new Sequenced(7, later));
+        shard.add(new Sequenced(3, earlier));
+
+        assertThat(shard.findFirst(employee -> employee.getName().equalsIgnoreCase("ALICE")))
+                .map(Sequenced::employee)
+                .contains(earlier);
+        assertThat(shard.searchByName("alice")).extracting(Sequenced::sequence).containsExactly(3L, 7L);
+    }
+
+    @Test
+    void topBySalary_highestFirstSkippingMissingSalaries() {
+        shard.addAll(List.of(
+                new Sequenced(0, employee(UUID.randomUUID(), "A", 1000)),
+                new Sequenced(1, employee(UUID.randomUUID(), "B", null)),
+                new Sequenced(2, employee(UUID.randomUUID(), "C", 3000)),
+                new Sequenced(3, employee(UUID.randomUUID(), "D", 2000))));
+
+        assertThat(shard.topBySalary(2)).extracting(MockEmployee::getSalary).containsExactly(3000, 2000);
+    }
+
+    private SalaryStatistics statistics() {
+        final var total = new SalaryStatisticsTracker();
+        shard.mergeStatisticsInto(total);
+        return total.report().overall();
+    }
+
+    private static MockEmployee employee(UUID id, String name, Integer salary) {
+        return new MockEmployee(id, name, salary, 30, "Dev", name.toLowerCase() + "@company.com");
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.ImportResult;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeImporterTest {
+
+    private static final String VALID = "{\"name\":\"Jane Doe\",\"salary\":50000,\"age\":30,\"title\":\"Dev\"}";
+
+    private MockEmployeeService mockEmployeeService;
+    private MockEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeService = new MockEmployeeService(List.of(), 4);
+        importer = new MockEmployeeImporter(
+                mockEmployeeService, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockEmployeeService.shutdown();
+    }
+
+    @Test
+    void importFrom_insertsValidLinesInBatches() throws IOException {
+        final var body = String.join("\n", VALID, VALID, "", VALID) + "\n";
+
+        final ImportResult result = importer.importFrom(stream(body.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertThat(result.accepted()).isEqualTo(3);
+        assertThat(result.rejected()).isZero();
+        assertThat(mockEmployeeService.getMockEmployees()).hasSize(3);
+    }
+
+    @Test
+    void importFrom_reportsInvalidLines() throws IOException {
+        final var body = String.join(
+                "\n", VALID, "{\"name\":\"\",\"salary\":50000,\"age\":30,\"title\":\"Dev\"}", "not json", VALID);
+
+        final ImportResult result = importer.importFrom(stream(body.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertThat(result.accepted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).extracting(ImportResult.LineError::line).containsExactly(2L, 3L);
+        assertThat(result.errors().get(0).message()).startsWith("name ");
+        assertThat(result.errors().get(1).message()).startsWith("Invalid JSON");
+    }
+
+    @Test
+    void importFrom_detectsGzipWithoutHeader() throws IOException {
+        final var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            gzip.write((VALID + "\n" + VALID).getBytes(StandardCharsets.UTF_8));
+        }
+
+        final ImportResult result = importer.importFrom(stream(compressed.toByteArray()), false);
+
+        assertThat(result.accepted()).isEqualTo(2);
+    }
+
+    private static ByteArrayInputStream stream(byte[] bytes) {
+        return new ByteArrayInputStream(bytes);
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Create throughput under contention; run with {@code ./gradlew server:benchmark}
+ */
+@Tag("benchmark")
+class MockEmployeeServiceCreateBenchmark {
+
+    private static final int CREATES_PER_THREAD = 20_000;
+
+    @Test
+    void concurrentCreates() throws Exception {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final var service = new MockEmployeeService(new ArrayList<>(), 0);
+        final var input = new CreateMockEmployeeInput();
+        input.setName("Bench Mark");
+        input.setSalary(100000);
+        input.setAge(30);
+        input.setTitle("Benchmark Engineer");
+
+        // Warm up Faker, the JIT and the shards before measuring
+        for (int i = 0; i < CREATES_PER_THREAD; i++) {
+            service.create(input);
+        }
+
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var start = new CountDownLatch(1);
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                    service.create(input);
+                }
+                return null;
+            }));
+        }
+        final long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        final long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        final long creates = (long) threads * CREATES_PER_THREAD;
+        System.out.printf(
+                "%d threads created %d employees in %d ms (%.0f creates/s)%n",
+                threads, creates, elapsedNanos / 1_000_000, creates * 1e9 / elapsedNanos);
+
+        final var employees = service.getMockEmployees();
+        assertThat(employees).hasSize((int) creates + CREATES_PER_THREAD);
+        assertThat(employees.stream().map(MockEmployee::getEmail).distinct().count())
+                .isEqualTo(employees.size());
+    }
+}
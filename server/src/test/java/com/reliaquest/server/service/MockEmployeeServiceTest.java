@@ -0,0 +1,169 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    // Enough to take the parallel scan path
+    private static final int LARGE = 10_000;
+
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeService = new MockEmployeeService(List.of(), 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockEmployeeService.shutdown();
+    }
+
+    @Test
+    void getMockEmployees_inInsertionOrderAcrossShards() {
+        final var seeded = new MockEmployee(UUID.randomUUID(), "Seed", 1000, 30, "Dev", "seed@company.com");
+        mockEmployeeService.shutdown();
+        mockEmployeeService = new MockEmployeeService(new ArrayList<>(List.of(seeded)), 8);
+        final var expected = new ArrayList<String>(List.of("Seed"));
+        for (int i = 0; i < LARGE; i += 100) {
+            mockEmployeeService.create(input("Single " + i, 1000 + i));
+            expected.add("Single " + i);
+            final var batch = IntStream.range(i, i + 100)
+                    .mapToObj(j -> input("Batch " + j, 1000 + j))
+                    .toList();
+            mockEmployeeService.createAll(batch);
+            batch.forEach(input -> expected.add(input.getName()));
+        }
+
+        assertThat(mockEmployeeService.getMockEmployees())
+                .extracting(MockEmployee::getName)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void createDeleteList_consistentAcrossShards() {
+        final var created = mockEmployeeService.createAll(IntStream.range(0, LARGE)
+                .mapToObj(i -> input("Employee " + i, 1000 + i))
+                .toList());
+        final var kept = new ArrayList<MockEmployee>();
+        for (int i = 0; i < created.size(); i++) {
+            final var employee = created.get(i);
+            if (i % 3 == 0) {
+                assertThat(mockEmployeeService.deleteById(employee.getId())).contains(employee);
+            } else {
+                kept.add(employee);
+            }
+        }
+
+        assertThat(mockEmployeeService.getMockEmployees()).containsExactlyElementsOf(kept);
+        assertThat(mockEmployeeService.salaryStatistics().overall().count()).isEqualTo(kept.size());
+        assertThat(mockEmployeeService.findById(created.get(0).getId())).isEmpty();
+        assertThat(mockEmployeeService.findById(created.get(1).getId())).contains(created.get(1));
+        assertThat(mockEmployeeService.deleteById(created.get(0).getId())).isEmpty();
+    }
+
+    @Test
+    void delete_byName_removesEarliestMatch() {
+        final var first = mockEmployeeService.create(input("Alice Smith", 1000));
+        final var second = mockEmployeeService.create(input("alice smith", 2000));
+
+        assertThat(mockEmployeeService.delete(delete("ALICE SMITH"))).isTrue();
+        assertThat(mockEmployeeService.getMockEmployees()).containsExactly(second);
+        assertThat(mockEmployeeService.findById(first.getId())).isEmpty();
+
+        assertThat(mockEmployeeService.delete(delete("Alice Smith"))).isTrue();
+        assertThat(mockEmployeeService.delete(delete("Alice Smith"))).isFalse();
+        assertThat(mockEmployeeService.getMockEmployees()).isEmpty();
+    }
+
+    @Test
+    void findByNameContaining_inInsertionOrder() {
+        final var names = IntStream.range(0, 50).mapToObj(i -> "Jo-Anne " + i).toList();
+        names.forEach(name -> mockEmployeeService.create(input(name, 1000)));
+        mockEmployeeService.create(input("Bob", 1000));
+
+        assertThat(mockEmployeeService.findByNameContaining("joanne"))
+                .extracting(MockEmployee::getName)
+                .containsExactlyElementsOf(names);
+        assertThat(mockEmployeeService.findByNameContaining("jo"))
+                .extracting(MockEmployee::getName)
+                .containsExactlyElementsOf(names);
+    }
+
+    @Test
+    void findTopBySalary_mergesShards() {
+        mockEmployeeService.createAll(IntStream.range(0, LARGE)
+                .mapToObj(i -> input("Employee " + i, 1000 + i))
+                .toList());
+
+        assertThat(mockEmployeeService.findTopBySalary(3))
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(1000 + LARGE - 1, 1000 + LARGE - 2, 1000 + LARGE - 3);
+    }
+
+    @Test
+    void create_concurrently_uniqueIdsAndEmails() throws Exception {
+        final int threads = 8;
+        final int perThread = 500;
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                tasks.add(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i += 10) {
+                        mockEmployeeService.create(input("Single " + thread + "-" + i, 1000));
+                        mockEmployeeService.createAll(IntStream.range(i + 1, i + 10)
+                                .mapToObj(j -> input("Batch " + thread + "-" + j, 1000))
+                                .toList());
+                    }
+                    return null;
+                });
+            }
+            final var futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final var employees = mockEmployeeService.getMockEmployees();
+        assertThat(employees).hasSize(threads * perThread);
+        assertThat(employees).extracting(MockEmployee::getId).doesNotHaveDuplicates();
+        assertThat(employees).extracting(MockEmployee::getEmail).doesNotHaveDuplicates();
+        assertThat(mockEmployeeService.salaryStatistics().overall().count()).isEqualTo(threads * perThread);
+    }
+
+    private static CreateMockEmployeeInput input(String name, int salary) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(salary);
+        input.setAge(30);
+        input.setTitle("Dev");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SalarySketchTest {
+
+    private static final double[] QUANTILES = {0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1};
+
+    @Test
+    void quantile_withinRelativeAccuracy() {
+        final var random = new Random(42);
+        final int[] salaries = IntStream.range(0, 20_000)
+                .map(i -> 20_000 + (int) Math.abs(random.nextGaussian() * 60_000))
+                .toArray();
+        final var sketch = new SalarySketch();
+        Arrays.stream(salaries).forEach(sketch::add);
+
+        Arrays.sort(salaries);
+        for (double q : QUANTILES) {
+            final int exact = salaries[(int) Math.floor(q * (salaries.length - 1))];
+            // Plus one for rounding the estimate to a whole salary
+            assertThat(sketch.quantile(q))
+                    .as("p%s", q * 100)
+                    .isCloseTo(exact, within((int) Math.ceil(exact * SalarySketch.RELATIVE_ACCURACY) + 1));
+        }
+    }
+
+    @Test
+    void countMeanStddev_exact() {
+        final var sketch = new SalarySketch();
+        IntStream.of(1000, 2000, 3000, 6000).forEach(sketch::add);
+
+        assertThat(sketch.count()).isEqualTo(4);
+        assertThat(sketch.mean()).isEqualTo(3000);
+        assertThat(sketch.stddev()).isCloseTo(Math.sqrt(3_500_000), within(1e-6));
+    }
+
+    @Test
+    void remove_sameAsNeverAdded() {
+        final var random = new Random(7);
+        final int[] kept = random.ints(5_000, 1, 500_000).toArray();
+        final int[] removed = random.ints(5_000, 1, 500_000).toArray();
+        final var sketch = new SalarySketch();
+        final var expected = new SalarySketch();
+        Arrays.stream(kept).forEach(sketch::add);
+        Arrays.stream(kept).forEach(expected::add);
+        Arrays.stream(removed).forEach(sketch::add);
+        Arrays.stream(removed).forEach(sketch::remove);
+
+        assertThat(sketch.count()).isEqualTo(expected.count());
+        assertThat(sketch.mean()).isEqualTo(expected.mean());
+        assertThat(sketch.stddev()).isCloseTo(expected.stddev(), within(1e-6));
+        for (double q : QUANTILES) {
+            assertThat(sketch.quantile(q)).as("p%s", q * 100).isEqualTo(expected.quantile(q));
+        }
+    }
+
+    @Test
+    void removeAll_empty() {
+        final var sketch = new SalarySketch();
+        sketch.add(50_000);
+        sketch.add(0);
+        sketch.remove(50_000);
+        sketch.remove(0);
+
+        assertThat(sketch.count()).isZero();
+        assertThat(sketch.mean()).isZero();
+        assertThat(sketch.stddev()).isZero();
+        assertThat(sketch.quantile(0.5)).isNull();
+    }
+
+    @Test
+    void merge_sameAsOneSketch() {
+        final var random = new Random(3);
+        final int[] salaries = random.ints(10_000, 0, 1_000_000).toArray();
+        final var whole = new SalarySketch();
+        final var low = new SalarySketch();
+        final var high = new SalarySketch();
+        Arrays.stream(salaries).forEach(whole::add);
+        // Disjoint value ranges make the merge grow the bucket array on both ends
+        Arrays.stream(salaries).filter(salary -> salary < 100_000).forEach(low::add);
+        Arrays.stream(salaries).filter(salary -> salary >= 100_000).forEach(high::add);
+
+        final var merged = new SalarySketch();
+        merged.merge(high);
+        merged.merge(low);
+
+        assertThat(merged.count()).isEqualTo(whole.count());
+        assertThat(merged.mean()).isEqualTo(whole.mean());
+        for (double q : QUANTILES) {
+            assertThat(merged.quantile(q)).as("p%s", q * 100).isEqualTo(whole.quantile(q));
+        }
+    }
+}
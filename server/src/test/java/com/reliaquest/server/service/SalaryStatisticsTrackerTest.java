@@ -0,0 +1,76 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryStatisticsTrackerTest {
+
+    private final SalaryStatisticsTracker tracker = new SalaryStatisticsTracker();
+
+    @Test
+    void remove_keepsOverallAndTitlesExact() {
+        final var alice = employee(1000, "Dev");
+        final var bob = employee(3000, "Dev");
+        final var carol = employee(8000, "QA");
+        tracker.add(alice);
+        tracker.add(bob);
+        tracker.add(carol);
+
+        tracker.remove(bob);
+
+        final var report = tracker.report();
+        assertThat(report.overall().count()).isEqualTo(2);
+        assertThat(report.overall().mean()).isEqualTo(4500);
+        assertThat(report.overall().stddev()).isCloseTo(3500, within(1e-6));
+        assertThat(report.byTitle().get("Dev").count()).isEqualTo(1);
+        assertThat(report.byTitle().get("Dev").mean()).isEqualTo(1000);
+
+        tracker.remove(carol);
+
+        assertThat(tracker.report().byTitle()).containsOnlyKeys("Dev");
+    }
+
+    @Test
+    void missingSalaryOrTitle_leftOutWhereUnknown() {
+        tracker.add(employee(null, "Dev"));
+        tracker.add(employee(5000, null));
+
+        final var report = tracker.report();
+        assertThat(report.overall().count()).isEqualTo(1);
+        assertThat(report.byTitle()).isEmpty();
+
+        tracker.remove(employee(null, "Dev"));
+        tracker.remove(employee(5000, null));
+
+        assertThat(tracker.report().overall().count()).isZero();
+        assertThat(tracker.report().overall().p50()).isNull();
+    }
+
+    @Test
+    void mergeInto_combinesShards() {
+        final var other = new SalaryStatisticsTracker();
+        tracker.add(employee(1000, "Dev"));
+        other.add(employee(3000, "Dev"));
+        other.add(employee(5000, "QA"));
+
+        final var total = new SalaryStatisticsTracker();
+        tracker.mergeInto(total);
+        other.mergeInto(total);
+
+        final var report = total.report();
+        assertThat(report.overall().count()).isEqualTo(3);
+        assertThat(report.overall().mean()).isEqualTo(3000);
+        assertThat(report.byTitle().get("Dev").count()).isEqualTo(2);
+        assertThat(report.byTitle().get("QA").count()).isEqualTo(1);
+        // The sources are left as they were
+        assertThat(tracker.report().overall().count()).isEqualTo(1);
+    }
+
+    private static MockEmployee employee(Integer salary, String title) {
+        return new MockEmployee(UUID.randomUUID(), "Name", salary, 30, title, "name@company.com");
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionInterceptorTest {
+
+    @Test
+    void uniformLatency_staysWithinBounds() {
+        final var latency = new FaultInjectionProperties.Latency();
+        latency.setDistribution(FaultInjectionProperties.Distribution.UNIFORM);
+        latency.setMin(Duration.ofMillis(10));
+        latency.setMax(Duration.ofMillis(20));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(FaultInjectionInterceptor.sampleLatency(latency))
+                    .isBetween(Duration.ofMillis(10), Duration.ofMillis(20));
+        }
+    }
+
+    @Test
+    void lognormalLatency_cappedAtMax() {
+        final var latency = new FaultInjectionProperties.Latency();
+        latency.setDistribution(FaultInjectionProperties.Distribution.LOGNORMAL);
+        latency.setMedian(Duration.ofMillis(10));
+        latency.setSigma(3);
+        latency.setMax(Duration.ofMillis(50));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(FaultInjectionInterceptor.sampleLatency(latency)).isLessThanOrEqualTo(Duration.ofMillis(50));
+        }
+    }
+
+    @Test
+    void throttledRule_answers429WithRetryAfter() throws Exception {
+        final var rule = new FaultInjectionProperties.Rule();
+        rule.setPath("/api/v1/employee");
+        rule.getThrottle().setPeriod(Duration.ofMinutes(1));
+        rule.getThrottle().setDuration(Duration.ofMinutes(1));
+        rule.getThrottle().setRetryAfter(Duration.ofSeconds(7));
+        final var response = new MockHttpServletResponse();
+
+        final boolean proceed =
+                interceptor(rule).preHandle(new MockHttpServletRequest("GET", "/api/v1/employee"), response, null);
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    }
+
+    @Test
+    void errorRule_onlyAppliesToMatchingMethodAndPath() throws Exception {
+        final var rule = new FaultInjectionProperties.Rule();
+        rule.setPath("/api/v1/employee/**");
+        rule.setMethod("POST");
+        rule.setErrorRate(1);
+        rule.setErrorStatus(503);
+        final var interceptor = interceptor(rule);
+
+        final var post = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/employee/batch"), post, null))
+                .isFalse();
+        assertThat(post.getStatus()).isEqualTo(503);
+
+        final var get = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/employee/batch"), get, null))
+                .isTrue();
+    }
+
+    @Test
+    void idRule_onlyMatchesIds() throws Exception {
+        final var rule = new FaultInjectionProperties.Rule();
+        rule.setPath("/api/v1/employee/{id:[0-9a-fA-F-]{36}}");
+        rule.setMethod("GET");
+        rule.setErrorRate(1);
+        final var interceptor = interceptor(rule);
+
+        assertThat(interceptor.preHandle(
+                        new MockHttpServletRequest("GET", "/api/v1/employee/" + UUID.randomUUID()),
+                        new MockHttpServletResponse(),
+                        null))
+                .isFalse();
+        assertThat(interceptor.preHandle(
+                        new MockHttpServletRequest("GET", "/api/v1/employee/top-salaries"),
+                        new MockHttpServletResponse(),
+                        null))
+                .isTrue();
+    }
+
+    @Test
+    void slowBodyRule_marksRequest() throws Exception {
+        final var rule = new FaultInjectionProperties.Rule();
+        rule.setBodyBytesPerSecond(1024);
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+
+        assertThat(interceptor(rule).preHandle(request, new MockHttpServletResponse(), null))
+                .isTrue();
+        assertThat(request.getAttribute(SlowResponseFilter.BYTES_PER_SECOND_ATTRIBUTE))
+                .isEqualTo(1024);
+    }
+
+    private static FaultInjectionInterceptor interceptor(FaultInjectionProperties.Rule rule) {
+        final var properties = new FaultInjectionProperties();
+        properties.setEnabled(true);
+        properties.setRules(List.of(rule));
+        return new FaultInjectionInterceptor(properties);
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SlowResponseFilterTest {
+
+    @Test
+    void byteWrites_pausedPerSlice() throws Exception {
+        final var body = new byte[500];
+        Arrays.fill(body, (byte) 'x');
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        // 100 byte slices, 100ms each
+        request.setAttribute(SlowResponseFilter.BYTES_PER_SECOND_ATTRIBUTE, 1000);
+        final var response = new MockHttpServletResponse();
+
+        final long start = System.nanoTime();
+        new SlowResponseFilter().doFilter(request, response, (req, res) -> {
+            final var out = res.getOutputStream();
+            for (byte b : body) {
+                out.write(b);
+            }
+            out.flush();
+        });
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        assertThat(elapsedMillis).isBetween(450L, 2000L);
+    }
+
+    @Test
+    void noRate_passesThrough() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        new SlowResponseFilter()
+                .doFilter(
+                        new MockHttpServletRequest("GET", "/api/v1/employee"),
+                        response,
+                        (req, res) -> res.getOutputStream().write(new byte[] {1, 2, 3}));
+
+        assertThat(response.getContentAsByteArray()).containsExactly(1, 2, 3);
+    }
+}